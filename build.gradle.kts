@@ -41,11 +41,14 @@ dependencies {
     implementation("org.springframework:spring-context")
     implementation("org.springframework:spring-core")
     implementation("org.springframework.data:spring-data-jpa")
+    implementation("org.springframework:spring-jdbc")
     implementation("org.springframework.boot:spring-boot-autoconfigure")
 
     implementation("org.flywaydb:flyway-core")
     
     implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
 
     implementation("com.fasterxml.jackson.module:jackson-module-parameter-names")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jdk8")
@@ -54,6 +57,7 @@ dependencies {
 
     implementation("jakarta.annotation:jakarta.annotation-api")
     implementation("jakarta.persistence:jakarta.persistence-api")
+    compileOnly("org.hibernate.orm:hibernate-core")
 
     implementation("com.github.sibdevtools:api-common:${project.property("lib_api_common_version")}")
     implementation("com.github.sibdevtools:api-error:${project.property("lib_api_error_version")}")
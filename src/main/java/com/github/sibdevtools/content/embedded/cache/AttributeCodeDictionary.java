@@ -0,0 +1,217 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.embedded.exception.NotFoundException;
+import jakarta.annotation.Nonnull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory dictionary of attribute codes and their identifiers.
+ * Content attributes store a small integer identifier of the code instead of the code itself.
+ * <p>
+ * The dictionary is queried by plain JDBC, so it is safe to use it from JPA attribute converter.
+ * New codes are registered in the caller's transaction. Their identifiers are visible to this transaction
+ * only and are published to the shared dictionary after commit, so rolled back identifiers are never cached.
+ * Not registered codes are not cached, as they may be registered by other instance at any moment.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Component
+@ConditionalOnProperty(name = "service.content.mode", havingValue = "EMBEDDED")
+public class AttributeCodeDictionary {
+    /**
+     * Identifier of not registered code, does not match any stored attribute
+     */
+    public static final int UNKNOWN_ID = -1;
+    /**
+     * Maximum number of codes read by a single query
+     */
+    private static final int SELECT_BATCH_SIZE = 512;
+    private static final String SELECT_ALL = "SELECT id, code FROM content_service.attribute_code";
+    private static final String SELECT_ID = "SELECT id FROM content_service.attribute_code WHERE code = ?";
+    private static final String SELECT_BY_CODES = "SELECT id, code FROM content_service.attribute_code WHERE code IN (%s)";
+    private static final String MERGE = "MERGE INTO content_service.attribute_code AS t " +
+            "USING (SELECT CAST(? AS VARCHAR(512)) AS code) AS s " +
+            "ON (t.code = s.code) " +
+            "WHEN NOT MATCHED THEN INSERT (code) VALUES (s.code)";
+
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, String> codes = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+
+    public AttributeCodeDictionary(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Get identifier of the attribute code
+     *
+     * @param code attribute code
+     * @return code identifier or {@link #UNKNOWN_ID} if code is not registered
+     */
+    public int getId(@Nonnull String code) {
+        var id = ids.get(code);
+        if (id != null) {
+            return id;
+        }
+        id = getPendingIds().get(code);
+        if (id != null) {
+            return id;
+        }
+        var found = jdbcTemplate.query(SELECT_ID, (rs, rowNum) -> rs.getInt(1), code);
+        if (found.isEmpty()) {
+            return UNKNOWN_ID;
+        }
+        id = found.getFirst();
+        put(id, code);
+        return id;
+    }
+
+    /**
+     * Get attribute code by identifier
+     *
+     * @param id code identifier
+     * @return attribute code
+     * @throws NotFoundException if code is not registered
+     */
+    public String getCode(int id) {
+        var code = codes.get(id);
+        if (code != null) {
+            return code;
+        }
+        var pendingIds = getPendingIds();
+        for (var pending : pendingIds.entrySet()) {
+            if (pending.getValue() == id) {
+                return pending.getKey();
+            }
+        }
+        // registered by other instance, reload whole dictionary as it is small
+        jdbcTemplate.query(SELECT_ALL, rs -> {
+            var loadedCode = rs.getString(2);
+            // registered by the current transaction, published after commit
+            if (!pendingIds.containsKey(loadedCode)) {
+                put(rs.getInt(1), loadedCode);
+            }
+        });
+        code = codes.get(id);
+        if (code == null) {
+            throw new NotFoundException("Attribute code not found");
+        }
+        return code;
+    }
+
+    /**
+     * Register attribute codes if not registered yet.
+     * Codes are inserted in the current transaction, if any, and published to the dictionary after its commit.
+     * Codes registered concurrently by other transaction are treated as already registered.
+     *
+     * @param attributeCodes attribute codes
+     */
+    public void register(@Nonnull Collection<String> attributeCodes) {
+        var registeredByTransaction = getPendingIds();
+        var missing = attributeCodes.stream()
+                .filter(it -> !ids.containsKey(it) && !registeredByTransaction.containsKey(it))
+                .distinct()
+                // same order in all transactions, so concurrent registrations do not deadlock
+                .sorted()
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(MERGE, missing, missing.size(), (ps, code) -> ps.setString(1, code));
+        } catch (DataIntegrityViolationException e) {
+            // some codes are inserted by a concurrent transaction, only failed statements are rolled back
+            for (var code : missing) {
+                registerOne(code);
+            }
+        }
+
+        var registered = new HashMap<String, Integer>();
+        for (int i = 0; i < missing.size(); i += SELECT_BATCH_SIZE) {
+            var batch = missing.subList(i, Math.min(i + SELECT_BATCH_SIZE, missing.size()));
+            var sql = SELECT_BY_CODES.formatted(String.join(", ", Collections.nCopies(batch.size(), "?")));
+            jdbcTemplate.query(
+                    sql,
+                    rs -> {
+                        registered.put(rs.getString(2), rs.getInt(1));
+                    },
+                    batch.toArray()
+            );
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            var pendingIds = findPendingIds();
+            if (pendingIds == null) {
+                pendingIds = new PendingIds();
+                TransactionSynchronizationManager.registerSynchronization(pendingIds);
+            }
+            pendingIds.registered.putAll(registered);
+        } else {
+            registered.forEach((code, id) -> put(id, code));
+        }
+    }
+
+    private void registerOne(String code) {
+        try {
+            jdbcTemplate.update(MERGE, code);
+        } catch (DataIntegrityViolationException e) {
+            // registered by a concurrent transaction, identifier is read after insert
+        }
+    }
+
+    /**
+     * Get identifiers registered by the current transaction and not committed yet
+     */
+    private Map<String, Integer> getPendingIds() {
+        var pendingIds = findPendingIds();
+        return pendingIds == null ? Map.of() : pendingIds.registered;
+    }
+
+    private PendingIds findPendingIds() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (var synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingIds pendingIds && pendingIds.getDictionary() == this) {
+                return pendingIds;
+            }
+        }
+        return null;
+    }
+
+    private void put(int id, String code) {
+        ids.put(code, id);
+        codes.put(id, code);
+    }
+
+    /**
+     * Identifiers registered by a transaction, published to the dictionary after the transaction commit.
+     * Kept as a transaction synchronization, so it is suspended along with the transaction.
+     */
+    private class PendingIds implements TransactionSynchronization {
+        private final Map<String, Integer> registered = new HashMap<>();
+
+        private AttributeCodeDictionary getDictionary() {
+            return AttributeCodeDictionary.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            registered.forEach((code, id) -> put(id, code));
+        }
+    }
+}
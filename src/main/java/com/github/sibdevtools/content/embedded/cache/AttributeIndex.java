@@ -0,0 +1,93 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.embedded.condition.ConditionPlan;
+import jakarta.annotation.Nonnull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index of content attributes: attribute code → attribute value → positions of contents.
+ * Built once per group snapshot and never modified afterward.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public final class AttributeIndex {
+    private static final BitSet EMPTY = new BitSet();
+
+    private final int size;
+    private final Map<String, AttributeValues> attributes;
+
+    private AttributeIndex(int size, Map<String, AttributeValues> attributes) {
+        this.size = size;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Build index of passed contents. Position of content in the list is used as content position in the index.
+     *
+     * @param contents indexed contents
+     * @return attribute index
+     */
+    public static AttributeIndex of(@Nonnull List<ContentSnapshot> contents) {
+        var attributes = new HashMap<String, AttributeValues>();
+        for (int position = 0; position < contents.size(); position++) {
+            var content = contents.get(position);
+            for (var attribute : content.attributes().entrySet()) {
+                var values = attributes.computeIfAbsent(attribute.getKey(), it -> new AttributeValues());
+                values.present.set(position);
+                values.values.computeIfAbsent(attribute.getValue(), it -> new BitSet())
+                        .set(position);
+            }
+        }
+        return new AttributeIndex(contents.size(), attributes);
+    }
+
+    /**
+     * Find positions of contents, which meet condition plan
+     *
+     * @param plan condition plan
+     * @return positions of found contents
+     */
+    public BitSet find(@Nonnull ConditionPlan plan) {
+        var result = new BitSet(size);
+        if (plan.isUnsatisfiable()) {
+            return result;
+        }
+        result.set(0, size);
+        for (var condition : plan.conditions()) {
+            var attribute = condition.attribute();
+            switch (condition.operator()) {
+                case EQUALS -> result.and(withValue(attribute, condition.value()));
+                case NOT_NULL -> result.and(present(attribute));
+                case IS_NULL -> result.andNot(present(attribute));
+                case NOT_EQUALS -> result.andNot(withValue(attribute, condition.value()));
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private BitSet present(String attribute) {
+        var values = attributes.get(attribute);
+        return values == null ? EMPTY : values.present;
+    }
+
+    private BitSet withValue(String attribute, String value) {
+        var values = attributes.get(attribute);
+        if (values == null) {
+            return EMPTY;
+        }
+        return values.values.getOrDefault(value, EMPTY);
+    }
+
+    private static final class AttributeValues {
+        private final BitSet present = new BitSet();
+        private final Map<String, BitSet> values = new HashMap<>();
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.embedded.conf.ContentServiceEmbeddedCacheProperties;
+import com.github.sibdevtools.content.embedded.event.ContentGroupChangedEvent;
+import com.github.sibdevtools.content.embedded.event.SystemChangedEvent;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of content group snapshots.
+ * Entries are invalidated after commit of any change in the group.
+ * Snapshots keep all group contents with bodies, so number of cached groups is limited,
+ * arbitrary groups are evicted on overflow.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "service.content.mode", havingValue = "EMBEDDED")
+public class ContentGroupCache {
+    private final ConcurrentMap<ContentGroupKey, ContentGroupSnapshot> snapshots = new ConcurrentHashMap<>();
+    /**
+     * Incremented on each invalidation, used to drop snapshots loaded concurrently with a change
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final ContentServiceEmbeddedCacheProperties properties;
+
+    /**
+     * Is cache enabled
+     *
+     * @return true - snapshots are cached, false - otherwise
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Get a cached group snapshot or load it.
+     *
+     * @param key    content group key
+     * @param loader group snapshot loader
+     * @return content group snapshot
+     */
+    public ContentGroupSnapshot get(
+            @Nonnull ContentGroupKey key,
+            @Nonnull Function<ContentGroupKey, ContentGroupSnapshot> loader
+    ) {
+        var snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        var maxSize = properties.getGroupsMaxSize();
+        if (maxSize <= 0) {
+            return loader.apply(key);
+        }
+        var loadGeneration = generation.get();
+        snapshot = loader.apply(key);
+        evict(maxSize);
+        snapshots.putIfAbsent(key, snapshot);
+        if (generation.get() != loadGeneration) {
+            snapshots.remove(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get cached group snapshots and load all missing ones at once.
+     *
+     * @param keys   content group keys
+     * @param loader group snapshots loader
+     * @return content group snapshots by keys
+     */
+    public Map<ContentGroupKey, ContentGroupSnapshot> getAll(
+            @Nonnull Collection<ContentGroupKey> keys,
+            @Nonnull Function<Collection<ContentGroupKey>, Map<ContentGroupKey, ContentGroupSnapshot>> loader
+    ) {
+        var found = new HashMap<ContentGroupKey, ContentGroupSnapshot>();
+        var missing = new HashSet<ContentGroupKey>();
+        for (var key : keys) {
+            var snapshot = snapshots.get(key);
+            if (snapshot == null) {
+                missing.add(key);
+            } else {
+                found.put(key, snapshot);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        var maxSize = properties.getGroupsMaxSize();
+        if (maxSize <= 0) {
+            found.putAll(loader.apply(missing));
+            return found;
+        }
+        var loadGeneration = generation.get();
+        var loaded = loader.apply(missing);
+        for (var entry : loaded.entrySet()) {
+            evict(maxSize);
+            snapshots.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        if (generation.get() != loadGeneration) {
+            loaded.forEach(snapshots::remove);
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    /**
+     * Invalidate cached group snapshot
+     *
+     * @param key content group key
+     */
+    public void invalidate(@Nonnull ContentGroupKey key) {
+        generation.incrementAndGet();
+        snapshots.remove(key);
+    }
+
+    /**
+     * Invalidate all cached group snapshots of the system
+     *
+     * @param systemCode system code
+     */
+    public void invalidateSystem(@Nonnull String systemCode) {
+        generation.incrementAndGet();
+        var normalizedCode = ContentGroupKey.normalize(systemCode);
+        snapshots.keySet().removeIf(it -> it.systemCode().equals(normalizedCode));
+    }
+
+    private void evict(int maxSize) {
+        if (snapshots.size() < maxSize) {
+            return;
+        }
+        var iterator = snapshots.keySet().iterator();
+        while (snapshots.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentGroupChanged(ContentGroupChangedEvent event) {
+        invalidate(ContentGroupKey.of(event.systemCode(), event.type(), event.groupCode()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSystemChanged(SystemChangedEvent event) {
+        invalidateSystem(event.systemCode());
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import java.util.Locale;
+
+/**
+ * Content group full identifier.
+ * Codes are compared ignoring case, the same way as the storage does.
+ *
+ * @param systemCode group's system code
+ * @param type       group type
+ * @param groupCode  group code
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record ContentGroupKey(String systemCode, String type, String groupCode) {
+
+    /**
+     * Create a normalized content group key
+     *
+     * @param systemCode group's system code
+     * @param type       group type
+     * @param groupCode  group code
+     * @return content group key
+     */
+    public static ContentGroupKey of(String systemCode, String type, String groupCode) {
+        return new ContentGroupKey(
+                normalize(systemCode),
+                normalize(type),
+                normalize(groupCode)
+        );
+    }
+
+    /**
+     * Normalize code for comparison
+     *
+     * @param code code
+     * @return normalized code
+     */
+    public static String normalize(String code) {
+        return code == null ? null : code.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.embedded.condition.ConditionPlan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable view of all contents of a content group.
+ *
+ * @param contents group contents
+ * @param index    inverted index of contents' attributes
+ * @param codes    group contents by normalized code
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record ContentGroupSnapshot(
+        List<ContentSnapshot> contents,
+        AttributeIndex index,
+        Map<String, ContentSnapshot> codes
+) {
+
+    /**
+     * Create a group snapshot and index its contents
+     *
+     * @param contents group contents
+     * @return content group snapshot
+     */
+    public static ContentGroupSnapshot of(List<ContentSnapshot> contents) {
+        var snapshots = List.copyOf(contents);
+        var codes = new HashMap<String, ContentSnapshot>();
+        for (var snapshot : snapshots) {
+            codes.put(ContentGroupKey.normalize(snapshot.code()), snapshot);
+        }
+        return new ContentGroupSnapshot(snapshots, AttributeIndex.of(snapshots), Map.copyOf(codes));
+    }
+
+    /**
+     * Find content by code, codes are compared ignoring case
+     *
+     * @param code content code
+     * @return optional with a found content or empty otherwise
+     */
+    public Optional<ContentSnapshot> findByCode(String code) {
+        return Optional.ofNullable(codes.get(ContentGroupKey.normalize(code)));
+    }
+
+    /**
+     * Find contents, which meet condition plan
+     *
+     * @param plan condition plan
+     * @return list of found contents
+     */
+    public List<ContentSnapshot> find(ConditionPlan plan) {
+        if (plan.isAll()) {
+            return contents;
+        }
+        var positions = index.find(plan);
+        var found = new ArrayList<ContentSnapshot>(positions.cardinality());
+        for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+            found.add(contents.get(position));
+        }
+        return found;
+    }
+
+    /**
+     * Count contents, which meet condition plan
+     *
+     * @param plan condition plan
+     * @return number of found contents
+     */
+    public int count(ConditionPlan plan) {
+        if (plan.isAll()) {
+            return contents.size();
+        }
+        return index.find(plan).cardinality();
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+/**
+ * Immutable view of a stored content with its attributes and encoded body.
+ *
+ * @param id           content identifier
+ * @param code         content code
+ * @param content      encoded content value, {@code null} if content is kept in binary storage
+ * @param contentBytes encoded content bytes, {@code null} if content is kept in text storage
+ * @param codec        identifier of the codec content value encoded by
+ * @param attributes   content attributes
+ * @param modifiedAt   content modification time
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record ContentSnapshot(
+        long id,
+        String code,
+        String content,
+        byte[] contentBytes,
+        String codec,
+        Map<String, String> attributes,
+        ZonedDateTime modifiedAt
+) {
+    public ContentSnapshot {
+        attributes = Map.copyOf(attributes);
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.embedded.conf.ContentServiceEmbeddedCacheProperties;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of decoded content values.
+ * Only values of immutable types are cached: well-known immutable JDK types, enums and
+ * types marked with {@link ImmutableContent}.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "service.content.mode", havingValue = "EMBEDDED")
+public class DecodedContentCache {
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigInteger.class,
+            BigDecimal.class,
+            UUID.class,
+            Instant.class,
+            LocalDate.class,
+            LocalTime.class,
+            LocalDateTime.class,
+            OffsetDateTime.class,
+            ZonedDateTime.class,
+            Duration.class
+    );
+
+    private final ConcurrentMap<Key, Object> values = new ConcurrentHashMap<>();
+    private final ContentServiceEmbeddedCacheProperties properties;
+
+    /**
+     * Get cached decoded value or decode it.
+     *
+     * @param content content snapshot
+     * @param type    content's Java type
+     * @param decoder content decoder
+     * @param <T>     content's type
+     * @return decoded content value
+     */
+    public <T> T get(
+            @Nonnull ContentSnapshot content,
+            @Nonnull Class<T> type,
+            @Nonnull Supplier<T> decoder
+    ) {
+        var maxSize = properties.getDecodedMaxSize();
+        if (maxSize <= 0 || !isImmutable(type)) {
+            return decoder.get();
+        }
+        var key = new Key(content.id(), content.modifiedAt(), type);
+        var cached = values.get(key);
+        if (cached != null) {
+            return type.cast(cached);
+        }
+        var decoded = decoder.get();
+        if (decoded == null) {
+            return null;
+        }
+        evict(maxSize);
+        values.putIfAbsent(key, decoded);
+        return decoded;
+    }
+
+    private void evict(int maxSize) {
+        if (values.size() < maxSize) {
+            return;
+        }
+        var iterator = values.keySet().iterator();
+        while (values.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE_TYPES.contains(type) ||
+                type.isEnum() ||
+                type.isAnnotationPresent(ImmutableContent.class);
+    }
+
+    private record Key(long contentId, ZonedDateTime modifiedAt, Class<?> type) {
+    }
+}
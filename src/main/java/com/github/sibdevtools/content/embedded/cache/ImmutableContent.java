@@ -0,0 +1,16 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a content type as immutable and safe to share between callers.
+ * Decoded values of marked types may be cached and returned to several callers as the same instance.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ImmutableContent {
+}
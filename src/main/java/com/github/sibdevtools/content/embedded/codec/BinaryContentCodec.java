@@ -0,0 +1,79 @@
+package com.github.sibdevtools.content.embedded.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.sibdevtools.content.embedded.exception.SerializationException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Codec of binary Jackson formats, e.g. Smile or CBOR.
+ * Binary representation is kept as is in the binary storage and as Base64 in the text one.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Builder
+@AllArgsConstructor
+public class BinaryContentCodec implements ContentCodec {
+    /**
+     * Smile codec identifier
+     */
+    public static final String SMILE = "SMILE";
+    /**
+     * CBOR codec identifier
+     */
+    public static final String CBOR = "CBOR";
+
+    private final String id;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public <T> String encode(T value) {
+        try {
+            return Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new SerializationException("Can't encode content", e);
+        }
+    }
+
+    @Override
+    public <T> T decode(String value, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(Base64.getDecoder().decode(value), type);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Can't decode content", e);
+        }
+    }
+
+    @Override
+    public <T> byte[] encodeBytes(T value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Can't encode content", e);
+        }
+    }
+
+    @Override
+    public <T> T decodeBytes(byte[] value, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (IOException e) {
+            throw new SerializationException("Can't decode content", e);
+        }
+    }
+}
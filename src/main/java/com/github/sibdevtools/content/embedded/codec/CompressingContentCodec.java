@@ -0,0 +1,162 @@
+package com.github.sibdevtools.content.embedded.codec;
+
+import com.github.sibdevtools.content.embedded.exception.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Codec decorator, which compresses large encoded contents with deflate.
+ * Encoded contents longer than the threshold are compressed and marked with a header,
+ * so both compressed and not compressed contents are decoded transparently.
+ * Compressed contents are kept only if they are shorter than not compressed ones.
+ * <p>
+ * Text representation is marked by a textual header, byte representation always starts with a flag byte.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public class CompressingContentCodec implements ContentCodec {
+    /**
+     * Suffix of compressing codec identifier
+     */
+    public static final String ID_SUFFIX = "+DEFLATE";
+    /**
+     * Header of compressed content, can't start neither JSON nor Base64 value
+     */
+    static final String HEADER = "~deflate:";
+    /**
+     * Flag byte of not compressed byte content
+     */
+    static final byte RAW = 0;
+    /**
+     * Flag byte of compressed byte content
+     */
+    static final byte DEFLATED = 1;
+
+    private final ContentCodec delegate;
+    private final int threshold;
+
+    /**
+     * Construct compressing codec
+     *
+     * @param delegate  codec to compress contents of
+     * @param threshold minimal length of encoded content to compress
+     */
+    public CompressingContentCodec(ContentCodec delegate, int threshold) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Get identifier of compressing codec for the passed one
+     *
+     * @param delegateId decorated codec identifier
+     * @return compressing codec identifier
+     */
+    public static String getId(String delegateId) {
+        return delegateId + ID_SUFFIX;
+    }
+
+    @Override
+    public String getId() {
+        return getId(delegate.getId());
+    }
+
+    @Override
+    public <T> String encode(T value) {
+        var encoded = delegate.encode(value);
+        if (encoded == null || encoded.length() < threshold) {
+            return encoded;
+        }
+        var compressed = HEADER + Base64.getEncoder().encodeToString(compress(encoded));
+        return compressed.length() < encoded.length() ? compressed : encoded;
+    }
+
+    @Override
+    public <T> T decode(String value, Class<T> type) {
+        if (value == null || !value.startsWith(HEADER)) {
+            return delegate.decode(value, type);
+        }
+        var decompressed = decompress(value.substring(HEADER.length()));
+        return delegate.decode(decompressed, type);
+    }
+
+    @Override
+    public <T> byte[] encodeBytes(T value) {
+        var encoded = delegate.encodeBytes(value);
+        if (encoded == null) {
+            return null;
+        }
+        if (encoded.length >= threshold) {
+            var compressed = compress(encoded);
+            if (compressed.length < encoded.length) {
+                return flagged(DEFLATED, compressed);
+            }
+        }
+        return flagged(RAW, encoded);
+    }
+
+    @Override
+    public <T> T decodeBytes(byte[] value, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length == 0) {
+            throw new SerializationException("Can't decompress content", new IOException("Flag byte is absent"));
+        }
+        var encoded = switch (value[0]) {
+            case RAW -> Arrays.copyOfRange(value, 1, value.length);
+            case DEFLATED -> decompress(value, 1);
+            default -> throw new SerializationException(
+                    "Can't decompress content",
+                    new IOException("Unknown flag byte: " + value[0])
+            );
+        };
+        return delegate.decodeBytes(encoded, type);
+    }
+
+    private static String decompress(String value) {
+        try {
+            return new String(decompress(Base64.getDecoder().decode(value), 0), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Can't decompress content", e);
+        }
+    }
+
+    private static byte[] compress(String value) {
+        return compress(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] compress(byte[] value) {
+        var out = new ByteArrayOutputStream();
+        try (var deflater = new DeflaterOutputStream(out)) {
+            deflater.write(value);
+        } catch (IOException e) {
+            throw new SerializationException("Can't compress content", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] flagged(byte flag, byte[] value) {
+        var flagged = new byte[value.length + 1];
+        flagged[0] = flag;
+        System.arraycopy(value, 0, flagged, 1, value.length);
+        return flagged;
+    }
+
+    private static byte[] decompress(byte[] value, int offset) {
+        var in = new ByteArrayInputStream(value, offset, value.length - offset);
+        try (var inflater = new InflaterInputStream(in)) {
+            return inflater.readAllBytes();
+        } catch (IOException e) {
+            throw new SerializationException("Can't decompress content", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.sibdevtools.content.embedded.codec;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Codec for content value decoding and encoding
  *
@@ -8,6 +10,17 @@ package com.github.sibdevtools.content.embedded.codec;
  */
 public interface ContentCodec {
 
+    /**
+     * Codec identifier, stored along with each encoded content.
+     * By default, JSON codec identifier is returned, as codecs implemented before identifiers were introduced
+     * store JSON content.
+     *
+     * @return codec identifier
+     */
+    default String getId() {
+        return JsonContentCodec.ID;
+    }
+
     /**
      * Encode passed value into a string.
      *
@@ -27,4 +40,30 @@ public interface ContentCodec {
      */
     <T> T decode(String value, Class<T> type);
 
+    /**
+     * Encode passed value into bytes.
+     * By default, UTF-8 bytes of string representation are returned.
+     *
+     * @param value content value
+     * @param <T>   content's type
+     * @return encoded representation of content value
+     */
+    default <T> byte[] encodeBytes(T value) {
+        var encoded = encode(value);
+        return encoded == null ? null : encoded.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode passed value from bytes into a passed Java type.
+     * By default, bytes are decoded as UTF-8 string representation.
+     *
+     * @param value encoded content value
+     * @param type  content's Java type
+     * @param <T>   content's type
+     * @return decoded content value
+     */
+    default <T> T decodeBytes(byte[] value, Class<T> type) {
+        return value == null ? null : decode(new String(value, StandardCharsets.UTF_8), type);
+    }
+
 }
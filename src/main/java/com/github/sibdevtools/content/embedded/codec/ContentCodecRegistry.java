@@ -0,0 +1,58 @@
+package com.github.sibdevtools.content.embedded.codec;
+
+import com.github.sibdevtools.content.embedded.exception.NotSupportedException;
+import jakarta.annotation.Nonnull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of content codecs by identifier.
+ * New contents are encoded by the default codec, stored contents are decoded by the codec they were encoded with.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public class ContentCodecRegistry {
+    private final Map<String, ContentCodec> codecs;
+    private final ContentCodec defaultCodec;
+
+    /**
+     * Construct codec registry
+     *
+     * @param codecs         available codecs
+     * @param defaultCodecId identifier of the codec to encode new contents with
+     */
+    public ContentCodecRegistry(@Nonnull Collection<? extends ContentCodec> codecs,
+                                @Nonnull String defaultCodecId) {
+        this.codecs = codecs.stream()
+                .collect(Collectors.toUnmodifiableMap(ContentCodec::getId, Function.identity()));
+        this.defaultCodec = get(defaultCodecId);
+    }
+
+    /**
+     * Get codec to encode new contents with
+     *
+     * @return default codec
+     */
+    public ContentCodec getDefault() {
+        return defaultCodec;
+    }
+
+    /**
+     * Get codec by identifier
+     *
+     * @param id codec identifier
+     * @return codec
+     * @throws NotSupportedException if codec is unknown
+     */
+    public ContentCodec get(String id) {
+        var codec = codecs.get(id);
+        if (codec == null) {
+            throw new NotSupportedException("Unknown content codec");
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.sibdevtools.content.embedded.codec;
+
+/**
+ * Storage of encoded contents
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public enum ContentStorage {
+    /**
+     * Contents are kept in the text column as string representation
+     */
+    TEXT,
+    /**
+     * Contents are kept in the binary column as byte representation
+     */
+    BINARY
+}
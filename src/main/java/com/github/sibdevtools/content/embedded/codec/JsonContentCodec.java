@@ -2,23 +2,57 @@ package com.github.sibdevtools.content.embedded.codec;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.github.sibdevtools.content.embedded.exception.SerializationException;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
+ * JSON content codec.
+ * Readers and writers are prebuilt once per content type, so (de)serializers are not resolved on each call.
+ * Plain strings, booleans and integral numbers are decoded without JSON parser.
+ *
  * @author sibmaks
  * @since 0.0.1
  */
-@Builder
-@AllArgsConstructor
 public class JsonContentCodec implements ContentCodec {
+    /**
+     * JSON codec identifier
+     */
+    public static final String ID = "JSON";
+    /**
+     * Marker of value, which can't be decoded by a fast path
+     */
+    private static final Object NOT_DECODED = new Object();
+
     private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Construct JSON codec
+     *
+     * @param objectMapper object mapper
+     */
+    @Builder
+    public JsonContentCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
 
     @Override
     public <T> String encode(T value) {
         try {
-            return objectMapper.writeValueAsString(value);
+            return getWriter(value).writeValueAsString(value);
         } catch (JsonProcessingException e) {
             throw new SerializationException("Can't encode content", e);
         }
@@ -29,10 +63,125 @@ public class JsonContentCodec implements ContentCodec {
         if (value == null) {
             return null;
         }
+        var decoded = decodeScalar(value, type);
+        if (decoded != NOT_DECODED) {
+            return type.cast(decoded);
+        }
         try {
-            return objectMapper.readValue(value, type);
+            return getReader(type).readValue(value);
         } catch (JsonProcessingException e) {
             throw new SerializationException("Can't decode content", e);
         }
     }
+
+    @Override
+    public <T> byte[] encodeBytes(T value) {
+        try {
+            return getWriter(value).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Can't encode content", e);
+        }
+    }
+
+    @Override
+    public <T> T decodeBytes(byte[] value, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        if (type == String.class && isPlainString(value)) {
+            return type.cast(new String(value, 1, value.length - 2, StandardCharsets.UTF_8));
+        }
+        try {
+            return getReader(type).readValue(value);
+        } catch (IOException e) {
+            throw new SerializationException("Can't decode content", e);
+        }
+    }
+
+    private ObjectReader getReader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    private ObjectWriter getWriter(Object value) {
+        var type = value == null ? Object.class : value.getClass();
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    private static Object decodeScalar(String value, Class<?> type) {
+        if (type == String.class) {
+            return isPlainString(value) ? value.substring(1, value.length() - 1) : NOT_DECODED;
+        }
+        if (type == Boolean.class) {
+            return switch (value) {
+                case "true" -> Boolean.TRUE;
+                case "false" -> Boolean.FALSE;
+                default -> NOT_DECODED;
+            };
+        }
+        if (type == Long.class || type == Integer.class) {
+            if (!isPlainIntegral(value)) {
+                return NOT_DECODED;
+            }
+            var number = Long.parseLong(value);
+            if (type == Long.class) {
+                return number;
+            }
+            return number == (int) number ? (Object) (int) number : NOT_DECODED;
+        }
+        return NOT_DECODED;
+    }
+
+    /**
+     * Check if value is a JSON string without escape sequences
+     */
+    private static boolean isPlainString(String value) {
+        var length = value.length();
+        if (length < 2 || value.charAt(0) != '"' || value.charAt(length - 1) != '"') {
+            return false;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            var c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if UTF-8 value is a JSON string without escape sequences
+     */
+    private static boolean isPlainString(byte[] value) {
+        var length = value.length;
+        if (length < 2 || value[0] != '"' || value[length - 1] != '"') {
+            return false;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            var b = value[i];
+            if (b == '"' || b == '\\' || (b >= 0 && b < 0x20)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if value is a JSON integer, which fits into long
+     */
+    private static boolean isPlainIntegral(String value) {
+        var length = value.length();
+        var start = !value.isEmpty() && value.charAt(0) == '-' ? 1 : 0;
+        var digits = length - start;
+        // 18 digits always fit into long, longer values are left to the parser
+        if (digits < 1 || digits > 18 || (digits > 1 && value.charAt(start) == '0')) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            var c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,58 @@
+package com.github.sibdevtools.content.embedded.condition;
+
+import com.github.sibdevtools.content.api.condition.*;
+import com.github.sibdevtools.content.embedded.exception.NotSupportedException;
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+
+/**
+ * Normalized attribute condition.
+ * Conditions on {@code null} values are converted into existence checks.
+ *
+ * @param operator  condition operator
+ * @param attribute attribute code
+ * @param value     attribute value, {@code null} for existence checks
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record AttributeCondition(ConditionOperator operator, String attribute, String value) {
+
+    /**
+     * Convert API condition into normalized attribute condition
+     *
+     * @param condition API condition
+     * @return attribute condition
+     */
+    public static AttributeCondition of(@Nonnull Condition condition) {
+        return switch (condition) {
+            case EqualsCondition equalsCondition -> equalsCondition.getValue() == null ?
+                    new AttributeCondition(ConditionOperator.IS_NULL, equalsCondition.getAttribute(), null) :
+                    new AttributeCondition(ConditionOperator.EQUALS, equalsCondition.getAttribute(), equalsCondition.getValue());
+            case NotEqualsCondition notEqualsCondition -> notEqualsCondition.getValue() == null ?
+                    new AttributeCondition(ConditionOperator.NOT_NULL, notEqualsCondition.getAttribute(), null) :
+                    new AttributeCondition(ConditionOperator.NOT_EQUALS, notEqualsCondition.getAttribute(), notEqualsCondition.getValue());
+            case IsNullCondition isNullCondition ->
+                    new AttributeCondition(ConditionOperator.IS_NULL, isNullCondition.getAttribute(), null);
+            case NotNullCondition notNullCondition ->
+                    new AttributeCondition(ConditionOperator.NOT_NULL, notNullCondition.getAttribute(), null);
+            default -> throw new NotSupportedException("Unknown condition type");
+        };
+    }
+
+    /**
+     * Check condition on content attributes
+     *
+     * @param attributes content attributes
+     * @return true - condition is met, false - otherwise
+     */
+    public boolean test(@Nonnull Map<String, String> attributes) {
+        var actual = attributes.get(attribute);
+        return switch (operator) {
+            case EQUALS -> value.equals(actual);
+            case NOT_NULL -> actual != null;
+            case IS_NULL -> actual == null;
+            case NOT_EQUALS -> !value.equals(actual);
+        };
+    }
+}
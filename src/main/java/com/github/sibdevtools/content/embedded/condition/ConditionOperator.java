@@ -0,0 +1,27 @@
+package com.github.sibdevtools.content.embedded.condition;
+
+/**
+ * Attribute condition operator.
+ * Operators are declared in evaluation order: from the most selective to the least selective.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public enum ConditionOperator {
+    /**
+     * Attribute exists and equals to value
+     */
+    EQUALS,
+    /**
+     * Attribute exists
+     */
+    NOT_NULL,
+    /**
+     * Attribute does not exist
+     */
+    IS_NULL,
+    /**
+     * Attribute does not exist or not equals to value
+     */
+    NOT_EQUALS
+}
@@ -0,0 +1,172 @@
+package com.github.sibdevtools.content.embedded.condition;
+
+import com.github.sibdevtools.content.api.condition.Condition;
+import jakarta.annotation.Nonnull;
+
+import java.util.*;
+
+/**
+ * Compiled list of attribute conditions.
+ * Duplicates and implied conditions are removed, contradictions make the plan unsatisfiable and
+ * the rest are ordered from the most selective to the least selective.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public final class ConditionPlan {
+    private static final ConditionPlan ALL = new ConditionPlan(List.of(), false);
+    private static final ConditionPlan NONE = new ConditionPlan(List.of(), true);
+
+    private final List<AttributeCondition> conditions;
+    private final boolean unsatisfiable;
+
+    private ConditionPlan(List<AttributeCondition> conditions, boolean unsatisfiable) {
+        this.conditions = conditions;
+        this.unsatisfiable = unsatisfiable;
+    }
+
+    /**
+     * Plan, which is met by any content
+     *
+     * @return condition plan
+     */
+    public static ConditionPlan all() {
+        return ALL;
+    }
+
+    /**
+     * Compile passed conditions into a plan
+     *
+     * @param conditions API conditions, nullable
+     * @return compiled condition plan
+     */
+    public static ConditionPlan compile(List<Condition> conditions) {
+        if (conditions == null || conditions.isEmpty()) {
+            return ALL;
+        }
+        return of(conditions.stream()
+                .map(AttributeCondition::of)
+                .toList());
+    }
+
+    /**
+     * Compile passed attribute conditions into a plan
+     *
+     * @param conditions attribute conditions
+     * @return compiled condition plan
+     */
+    public static ConditionPlan of(@Nonnull Collection<AttributeCondition> conditions) {
+        var byAttribute = new LinkedHashMap<String, Set<AttributeCondition>>();
+        for (var condition : conditions) {
+            byAttribute.computeIfAbsent(condition.attribute(), it -> new LinkedHashSet<>())
+                    .add(condition);
+        }
+
+        var compiled = new ArrayList<AttributeCondition>();
+        for (var attributeConditions : byAttribute.values()) {
+            if (!reduce(attributeConditions, compiled)) {
+                return NONE;
+            }
+        }
+        if (compiled.isEmpty()) {
+            return ALL;
+        }
+        compiled.sort(Comparator.comparing(AttributeCondition::operator));
+        return new ConditionPlan(List.copyOf(compiled), false);
+    }
+
+    /**
+     * Reduce conditions on the same attribute
+     *
+     * @param conditions conditions on the same attribute
+     * @param compiled   list of compiled conditions
+     * @return false - conditions contradict each other, true - otherwise
+     */
+    private static boolean reduce(Set<AttributeCondition> conditions, List<AttributeCondition> compiled) {
+        AttributeCondition equals = null;
+        AttributeCondition isNull = null;
+        AttributeCondition notNull = null;
+        var notEquals = new ArrayList<AttributeCondition>();
+        for (var condition : conditions) {
+            switch (condition.operator()) {
+                case EQUALS -> {
+                    if (equals != null) {
+                        return false;
+                    }
+                    equals = condition;
+                }
+                case IS_NULL -> isNull = condition;
+                case NOT_NULL -> notNull = condition;
+                case NOT_EQUALS -> notEquals.add(condition);
+            }
+        }
+        if (equals != null) {
+            if (isNull != null) {
+                return false;
+            }
+            var value = equals.value();
+            if (notEquals.stream().anyMatch(it -> it.value().equals(value))) {
+                return false;
+            }
+            compiled.add(equals);
+            return true;
+        }
+        if (isNull != null) {
+            if (notNull != null) {
+                return false;
+            }
+            compiled.add(isNull);
+            return true;
+        }
+        if (notNull != null) {
+            compiled.add(notNull);
+        }
+        compiled.addAll(notEquals);
+        return true;
+    }
+
+    /**
+     * Compiled conditions in evaluation order
+     *
+     * @return list of attribute conditions
+     */
+    public List<AttributeCondition> conditions() {
+        return conditions;
+    }
+
+    /**
+     * Is plan met by no content
+     *
+     * @return true - conditions contradict each other, false - otherwise
+     */
+    public boolean isUnsatisfiable() {
+        return unsatisfiable;
+    }
+
+    /**
+     * Is plan met by any content
+     *
+     * @return true - plan has no conditions, false - otherwise
+     */
+    public boolean isAll() {
+        return !unsatisfiable && conditions.isEmpty();
+    }
+
+    /**
+     * Check plan on content attributes
+     *
+     * @param attributes content attributes
+     * @return true - all conditions are met, false - otherwise
+     */
+    public boolean test(@Nonnull Map<String, String> attributes) {
+        if (unsatisfiable) {
+            return false;
+        }
+        for (var condition : conditions) {
+            if (!condition.test(attributes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.sibdevtools.content.embedded.condition;
+
+import com.github.sibdevtools.content.api.condition.Condition;
+import com.github.sibdevtools.content.embedded.conf.ContentServiceEmbeddedCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of compiled condition plans.
+ * When the cache is full, plans of new condition lists are compiled on each call.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "service.content.mode", havingValue = "EMBEDDED")
+public class ConditionPlanCache {
+    private final ConcurrentMap<List<AttributeCondition>, ConditionPlan> plans = new ConcurrentHashMap<>();
+    private final ContentServiceEmbeddedCacheProperties properties;
+
+    /**
+     * Get compiled plan of passed conditions
+     *
+     * @param conditions API conditions, nullable
+     * @return compiled condition plan
+     */
+    public ConditionPlan get(List<Condition> conditions) {
+        if (conditions == null || conditions.isEmpty()) {
+            return ConditionPlan.all();
+        }
+        var key = conditions.stream()
+                .map(AttributeCondition::of)
+                .toList();
+        var plan = plans.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        plan = ConditionPlan.of(key);
+        if (plans.size() < properties.getConditionPlansMaxSize()) {
+            plans.putIfAbsent(key, plan);
+        }
+        return plan;
+    }
+}
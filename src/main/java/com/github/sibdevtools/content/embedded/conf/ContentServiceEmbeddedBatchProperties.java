@@ -0,0 +1,23 @@
+package com.github.sibdevtools.content.embedded.conf;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Setter
+@Getter
+@Configuration
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties("service.content.embedded.batch")
+public class ContentServiceEmbeddedBatchProperties {
+    private int chunkSize;
+    private int jdbcBatchSize;
+}
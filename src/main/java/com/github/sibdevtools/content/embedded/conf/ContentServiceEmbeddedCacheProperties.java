@@ -0,0 +1,25 @@
+package com.github.sibdevtools.content.embedded.conf;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Setter
+@Getter
+@Configuration
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties("service.content.embedded.cache")
+public class ContentServiceEmbeddedCacheProperties {
+    private boolean enabled;
+    private int groupsMaxSize;
+    private int decodedMaxSize;
+    private int conditionPlansMaxSize;
+}
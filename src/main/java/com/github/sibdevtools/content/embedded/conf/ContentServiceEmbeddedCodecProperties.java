@@ -0,0 +1,26 @@
+package com.github.sibdevtools.content.embedded.conf;
+
+import com.github.sibdevtools.content.embedded.codec.ContentStorage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Setter
+@Getter
+@Configuration
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties("service.content.embedded.codec")
+public class ContentServiceEmbeddedCodecProperties {
+    private String defaultCodec;
+    private boolean compressionEnabled;
+    private int compressionThreshold;
+    private ContentStorage storage;
+}
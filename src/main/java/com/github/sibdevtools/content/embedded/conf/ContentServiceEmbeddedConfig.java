@@ -3,10 +3,17 @@ package com.github.sibdevtools.content.embedded.conf;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.github.sibdevtools.content.embedded.codec.BinaryContentCodec;
+import com.github.sibdevtools.content.embedded.codec.CompressingContentCodec;
+import com.github.sibdevtools.content.embedded.codec.ContentCodec;
+import com.github.sibdevtools.content.embedded.codec.ContentCodecRegistry;
 import com.github.sibdevtools.content.embedded.codec.JsonContentCodec;
 import com.github.sibdevtools.error.mutable.api.source.ErrorLocalizationsJsonSource;
 import org.flywaydb.core.Flyway;
@@ -15,9 +22,12 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -65,16 +75,11 @@ public class ContentServiceEmbeddedConfig {
 
     @Bean("contentServiceObjectMapper")
     public ObjectMapper contentServiceObjectMapper() {
-        return JsonMapper.builder()
-                .serializationInclusion(JsonInclude.Include.NON_NULL)
-                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-                .addModule(new ParameterNamesModule())
-                .addModule(new Jdk8Module())
-                .addModule(new JavaTimeModule())
-                .build();
+        return configure(JsonMapper.builder());
     }
 
     @Bean
+    @Primary
     public JsonContentCodec jsonContentCodec(
             @Qualifier("contentServiceObjectMapper")
             ObjectMapper objectMapper
@@ -82,4 +87,40 @@ public class ContentServiceEmbeddedConfig {
         return new JsonContentCodec(objectMapper);
     }
 
+    @Bean
+    public BinaryContentCodec smileContentCodec() {
+        return new BinaryContentCodec(BinaryContentCodec.SMILE, configure(SmileMapper.builder()));
+    }
+
+    @Bean
+    public BinaryContentCodec cborContentCodec() {
+        return new BinaryContentCodec(BinaryContentCodec.CBOR, configure(CBORMapper.builder()));
+    }
+
+    @Bean
+    public ContentCodecRegistry contentCodecRegistry(
+            List<ContentCodec> codecs,
+            ContentServiceEmbeddedCodecProperties properties
+    ) {
+        // compressing codecs are always registered, so compressed contents stay readable when compression is disabled
+        var allCodecs = new ArrayList<ContentCodec>(codecs);
+        for (var codec : codecs) {
+            allCodecs.add(new CompressingContentCodec(codec, properties.getCompressionThreshold()));
+        }
+        var defaultCodecId = properties.isCompressionEnabled() ?
+                CompressingContentCodec.getId(properties.getDefaultCodec()) :
+                properties.getDefaultCodec();
+        return new ContentCodecRegistry(allCodecs, defaultCodecId);
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(B builder) {
+        return builder
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .addModule(new ParameterNamesModule())
+                .addModule(new Jdk8Module())
+                .addModule(new JavaTimeModule())
+                .build();
+    }
+
 }
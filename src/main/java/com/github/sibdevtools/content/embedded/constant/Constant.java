@@ -13,4 +13,9 @@ public final class Constant {
 
     public static final ErrorSourceId ERROR_SOURCE = new ErrorSourceId("CONTENT_SERVICE");
 
+    /**
+     * JDBC fetch size of streaming queries
+     */
+    public static final int STREAM_FETCH_SIZE = 256;
+
 }
@@ -0,0 +1,22 @@
+package com.github.sibdevtools.content.embedded.dto;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+/**
+ * Content without its body.
+ *
+ * @param id         content identifier
+ * @param code       content code
+ * @param attributes content attributes
+ * @param modifiedAt content modification time
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record ContentMetadataHolder(
+        long id,
+        String code,
+        Map<String, String> attributes,
+        ZonedDateTime modifiedAt
+) {
+}
@@ -0,0 +1,93 @@
+package com.github.sibdevtools.content.embedded.dto;
+
+import com.github.sibdevtools.content.api.dto.ContentHolder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Content, which body is decoded on the first access and memoized.
+ * Encoded body is kept until decoding, so not accessed contents are never decoded.
+ *
+ * @param <T> content's type
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public final class LazyContentHolder<T> {
+    @Getter
+    private final long id;
+    @Getter
+    private final String code;
+    @Getter
+    private final Map<String, String> attributes;
+    @Getter
+    private final ZonedDateTime modifiedAt;
+    private Supplier<T> decoder;
+    private volatile boolean decoded;
+    private T content;
+
+    /**
+     * Construct lazy content holder
+     *
+     * @param id         content identifier
+     * @param code       content code
+     * @param attributes content attributes
+     * @param modifiedAt content modification time
+     * @param decoder    content body decoder, called at most once
+     */
+    public LazyContentHolder(
+            long id,
+            String code,
+            Map<String, String> attributes,
+            ZonedDateTime modifiedAt,
+            Supplier<T> decoder
+    ) {
+        this.id = id;
+        this.code = code;
+        this.attributes = attributes;
+        this.modifiedAt = modifiedAt;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Get content body, decode it on the first call
+     *
+     * @return decoded content body
+     */
+    public T getContent() {
+        if (!decoded) {
+            synchronized (this) {
+                if (!decoded) {
+                    content = decoder.get();
+                    decoder = null;
+                    decoded = true;
+                }
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Check if content body is already decoded
+     *
+     * @return true if body is decoded, false otherwise
+     */
+    public boolean isDecoded() {
+        return decoded;
+    }
+
+    /**
+     * Convert into eagerly decoded content holder, body is decoded if not yet
+     *
+     * @return content holder
+     */
+    public ContentHolder<T> toContentHolder() {
+        return ContentHolder.<T>builder()
+                .code(code)
+                .content(getContent())
+                .attributes(attributes)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.sibdevtools.content.embedded.dto;
+
+/**
+ * Result of the batch mutation operation.
+ *
+ * @param status operation status
+ * @param error  failure message, {@code null} if operation not failed
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record MutationResult(MutationStatus status, String error) {
+}
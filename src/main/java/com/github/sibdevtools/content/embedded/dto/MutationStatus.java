@@ -0,0 +1,27 @@
+package com.github.sibdevtools.content.embedded.dto;
+
+/**
+ * Status of the batch mutation operation.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public enum MutationStatus {
+    /**
+     * Operation applied and committed
+     */
+    APPLIED,
+    /**
+     * Operation failed, its chunk rolled back.
+     * If the chunk failed on commit, all of its operations are failed
+     */
+    FAILED,
+    /**
+     * Operation applied, but its chunk rolled back because of other operation failure
+     */
+    ROLLED_BACK,
+    /**
+     * Operation not applied, because one of the previous chunks failed
+     */
+    SKIPPED
+}
@@ -0,0 +1,29 @@
+package com.github.sibdevtools.content.embedded.entity;
+
+import com.github.sibdevtools.content.embedded.cache.AttributeCodeDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Converter of attribute codes into dictionary identifiers.
+ * Query parameters are converted too, so not registered codes do not match any attribute.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Converter
+@RequiredArgsConstructor
+public class AttributeCodeConverter implements AttributeConverter<String, Integer> {
+    private final AttributeCodeDictionary attributeCodeDictionary;
+
+    @Override
+    public Integer convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : attributeCodeDictionary.getId(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : attributeCodeDictionary.getCode(dbData);
+    }
+}
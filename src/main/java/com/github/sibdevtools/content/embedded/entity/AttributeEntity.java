@@ -20,9 +20,16 @@ import java.time.ZonedDateTime;
 public class AttributeEntity {
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_service_content_attribute_seq")
+    @SequenceGenerator(
+            name = "content_service_content_attribute_seq",
+            schema = "content_service",
+            sequenceName = "content_attribute_seq",
+            allocationSize = 50
+    )
     private long id;
-    @Column(name = "code", nullable = false)
+    @Convert(converter = AttributeCodeConverter.class)
+    @Column(name = "code_id", nullable = false)
     private String code;
     @Column(name = "attr_value", length = 512)
     private String value;
@@ -20,12 +20,22 @@ import java.time.ZonedDateTime;
 public class ContentEntity {
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_service_content_seq")
+    @SequenceGenerator(
+            name = "content_service_content_seq",
+            schema = "content_service",
+            sequenceName = "content_seq",
+            allocationSize = 50
+    )
     private long id;
     @Column(name = "code", nullable = false)
     private String code;
     @Column(name = "content", length = 1024 * 1024)
     private String content;
+    @Column(name = "content_bytes")
+    private byte[] contentBytes;
+    @Column(name = "codec", nullable = false, length = 32)
+    private String codec;
     @ManyToOne(optional = false)
     @JoinColumn(name = "content_group_id")
     private ContentGroupEntity group;
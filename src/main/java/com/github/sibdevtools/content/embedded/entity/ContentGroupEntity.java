@@ -20,7 +20,13 @@ import java.time.ZonedDateTime;
 public class ContentGroupEntity {
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_service_content_group_seq")
+    @SequenceGenerator(
+            name = "content_service_content_group_seq",
+            schema = "content_service",
+            sequenceName = "content_group_seq",
+            allocationSize = 50
+    )
     private long id;
     @ManyToOne(optional = false)
     @JoinColumn(name = "system_id")
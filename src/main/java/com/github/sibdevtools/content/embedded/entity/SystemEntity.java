@@ -20,7 +20,13 @@ import java.time.ZonedDateTime;
 public class SystemEntity {
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_service_system_seq")
+    @SequenceGenerator(
+            name = "content_service_system_seq",
+            schema = "content_service",
+            sequenceName = "system_seq",
+            allocationSize = 50
+    )
     private long id;
     @Column(name = "code", nullable = false, unique = true, length = 512)
     private String code;
@@ -0,0 +1,13 @@
+package com.github.sibdevtools.content.embedded.event;
+
+/**
+ * Event published when contents of a content group were changed or the group was deleted.
+ *
+ * @param systemCode group's system code
+ * @param type       group type
+ * @param groupCode  group code
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record ContentGroupChangedEvent(String systemCode, String type, String groupCode) {
+}
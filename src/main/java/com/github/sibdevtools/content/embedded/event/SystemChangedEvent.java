@@ -0,0 +1,11 @@
+package com.github.sibdevtools.content.embedded.event;
+
+/**
+ * Event published when a system with all its content groups was changed or deleted.
+ *
+ * @param systemCode system code
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record SystemChangedEvent(String systemCode) {
+}
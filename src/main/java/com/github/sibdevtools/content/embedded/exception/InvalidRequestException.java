@@ -0,0 +1,15 @@
+package com.github.sibdevtools.content.embedded.exception;
+
+import com.github.sibdevtools.content.embedded.constant.Constant;
+import com.github.sibdevtools.error.exception.ServiceException;
+import jakarta.annotation.Nonnull;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public class InvalidRequestException extends ServiceException {
+    public InvalidRequestException(@Nonnull String systemMessage) {
+        super(Constant.ERROR_SOURCE, "INVALID_REQUEST", systemMessage);
+    }
+}
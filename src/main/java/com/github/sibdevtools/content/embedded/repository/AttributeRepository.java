@@ -1,9 +1,18 @@
 package com.github.sibdevtools.content.embedded.repository;
 
+import com.github.sibdevtools.content.embedded.constant.Constant;
 import com.github.sibdevtools.content.embedded.entity.AttributeEntity;
+import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author sibmaks
@@ -20,9 +29,77 @@ public interface AttributeRepository extends JpaRepository<AttributeEntity, Long
     List<AttributeEntity> findAllByContentId(long contentId);
 
     /**
-     * Delete all attributes by content id
+     * Get all attributes of passed contents
+     *
+     * @param contentIds content identifiers
+     * @return list of contents' attributes
+     */
+    List<AttributeEntity> findAllByContentIdIn(Collection<Long> contentIds);
+
+    /**
+     * Get all attributes of all contents in passed group with a single query
+     *
+     * @param contentGroup content group
+     * @return list of group contents' attributes
+     */
+    @Query("SELECT a FROM content_attribute_content_attribute a " +
+            "WHERE a.contentId IN (SELECT c.id FROM content_attribute_content c WHERE c.group = :contentGroup)")
+    List<AttributeEntity> findAllByContentGroup(@Param("contentGroup") ContentGroupEntity contentGroup);
+
+    /**
+     * Get all attributes of all contents in passed groups with a single query
+     *
+     * @param contentGroups content groups
+     * @return list of groups contents' attributes
+     */
+    @Query("SELECT a FROM content_attribute_content_attribute a " +
+            "WHERE a.contentId IN (SELECT c.id FROM content_attribute_content c WHERE c.group IN :contentGroups)")
+    List<AttributeEntity> findAllByContentGroupIn(@Param("contentGroups") Collection<ContentGroupEntity> contentGroups);
+
+    /**
+     * Stream all attributes of all contents in passed group ordered by content identifier.
+     * Stream should be consumed inside a transaction and closed after usage.
+     *
+     * @param contentGroup content group
+     * @return stream of group contents' attributes
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "" + Constant.STREAM_FETCH_SIZE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT a FROM content_attribute_content_attribute a " +
+            "WHERE a.contentId IN (SELECT c.id FROM content_attribute_content c WHERE c.group = :contentGroup) " +
+            "ORDER BY a.contentId")
+    Stream<AttributeEntity> streamAllByContentGroup(@Param("contentGroup") ContentGroupEntity contentGroup);
+
+    /**
+     * Delete all attributes by content id with a single statement
      *
      * @param contentId content identifier
      */
-    void deleteAllByContentId(long contentId);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM content_attribute_content_attribute a WHERE a.contentId = :contentId")
+    void deleteAllByContentId(@Param("contentId") long contentId);
+
+    /**
+     * Delete all attributes of all contents in passed group with a single statement
+     *
+     * @param groupId content group id
+     * @return number of deleted attributes
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM content_attribute_content_attribute a " +
+            "WHERE a.contentId IN (SELECT c.id FROM content_attribute_content c WHERE c.group.id = :groupId)")
+    int deleteAllByContentGroupId(@Param("groupId") long groupId);
+
+    /**
+     * Delete all attributes of all contents in all groups of passed system with a single statement
+     *
+     * @param systemId system id
+     * @return number of deleted attributes
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM content_attribute_content_attribute a " +
+            "WHERE a.contentId IN (SELECT c.id FROM content_attribute_content c WHERE c.group.system.id = :systemId)")
+    int deleteAllBySystemId(@Param("systemId") long systemId);
 }
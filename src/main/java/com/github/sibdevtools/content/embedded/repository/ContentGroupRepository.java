@@ -2,6 +2,7 @@ package com.github.sibdevtools.content.embedded.repository;
 
 import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,28 +13,7 @@ import java.util.Optional;
  * @author sibmaks
  * @since 0.0.1
  */
-public interface ContentGroupRepository extends JpaRepository<ContentGroupEntity, Long> {
-
-    /**
-     * Create a content group if not exists.
-     *
-     * @param systemId system id
-     * @param type     content group type
-     * @param code     content group code
-     */
-    @Modifying
-    @Query(
-            value = "INSERT INTO content_service.content_group (code, type, system_id, created_at) " +
-                    "SELECT :code, :type, :systemId, current_timestamp WHERE NOT EXISTS(" +
-                    "SELECT 1 FROM content_service.content_group " +
-                    "WHERE type = :type AND code = :code AND system_id = :systemId)",
-            nativeQuery = true
-    )
-    void saveIfNotExists(
-            @Param("systemId") long systemId,
-            @Param("type") String type,
-            @Param("code") String code
-    );
+public interface ContentGroupRepository extends JpaRepository<ContentGroupEntity, Long>, JpaSpecificationExecutor<ContentGroupEntity> {
 
     /**
      * Find a group if it exists by full identifier
@@ -46,12 +26,24 @@ public interface ContentGroupRepository extends JpaRepository<ContentGroupEntity
     Optional<ContentGroupEntity> findBySystem_CodeAndTypeAndCode(String systemCode, String type, String code);
 
     /**
-     * Delete a group if it exists by full identifier
+     * Delete content group with a single statement.
+     * Group contents should be deleted before.
      *
-     * @param systemCode group's system code
-     * @param type       group type
-     * @param code       group code
+     * @param groupId content group id
+     * @return number of deleted groups
      */
-    void deleteBySystem_CodeAndTypeAndCode(String systemCode, String type, String code);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM content_attribute_content_group g WHERE g.id = :groupId")
+    int deleteByGroupId(@Param("groupId") long groupId);
 
+    /**
+     * Delete all content groups of passed system with a single statement.
+     * Group contents should be deleted before.
+     *
+     * @param systemId system id
+     * @return number of deleted groups
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM content_attribute_content_group g WHERE g.system.id = :systemId")
+    int deleteAllBySystemId(@Param("systemId") long systemId);
 }
@@ -0,0 +1,41 @@
+package com.github.sibdevtools.content.embedded.repository;
+
+import com.github.sibdevtools.content.embedded.cache.ContentGroupKey;
+import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
+import jakarta.persistence.criteria.Predicate;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Specifications for content group search.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentGroupSpecifications {
+
+    /**
+     * Content group has any of passed full identifiers
+     *
+     * @param keys content group keys
+     * @return content group specification
+     */
+    public static Specification<ContentGroupEntity> anyOf(Collection<ContentGroupKey> keys) {
+        return (root, query, builder) -> {
+            var system = root.join("system");
+            return builder.or(
+                    keys.stream()
+                            .map(key -> builder.and(
+                                    builder.equal(system.get("code"), key.systemCode()),
+                                    builder.equal(root.get("type"), key.type()),
+                                    builder.equal(root.get("code"), key.groupCode())
+                            ))
+                            .toArray(Predicate[]::new)
+            );
+        };
+    }
+}
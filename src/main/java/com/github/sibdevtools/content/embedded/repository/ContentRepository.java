@@ -2,42 +2,46 @@ package com.github.sibdevtools.content.embedded.repository;
 
 import com.github.sibdevtools.content.embedded.entity.ContentEntity;
 import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
+import com.github.sibdevtools.content.embedded.constant.Constant;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * @author sibmaks
  * @since 0.0.1
  */
-public interface ContentRepository extends JpaRepository<ContentEntity, Long> {
+public interface ContentRepository extends JpaRepository<ContentEntity, Long>, JpaSpecificationExecutor<ContentEntity> {
 
     /**
-     * Get a content if it exists by full identifier
+     * Get a content if it exists in passed group
      *
-     * @param systemCode group's system code
-     * @param groupType  group type
-     * @param groupCode  group code
-     * @param code       content code
+     * @param contentGroup content group
+     * @param code         content code
+     * @return optional with a found content or empty otherwise
+     */
+    Optional<ContentEntity> findByGroupAndCode(ContentGroupEntity contentGroup, String code);
+
+    /**
+     * Get a content if it exists in passed group and lock it till the end of the transaction
+     *
+     * @param contentGroup content group
+     * @param code         content code
      * @return optional with a found content or empty otherwise
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    default Optional<ContentEntity> findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCodeAndLock(
-            String systemCode,
-            String groupType,
-            String groupCode,
-            String code
-    ) {
-        return findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
-                systemCode,
-                groupType,
-                groupCode,
-                code
-        );
-    }
+    Optional<ContentEntity> findForUpdateByGroupAndCode(ContentGroupEntity contentGroup, String code);
 
     /**
      * Get a content if it exists by full identifier
@@ -55,6 +59,15 @@ public interface ContentRepository extends JpaRepository<ContentEntity, Long> {
             String code
     );
 
+    /**
+     * Get contents by codes in passed group
+     *
+     * @param contentGroup content group
+     * @param codes        content codes
+     * @return list of found contents
+     */
+    List<ContentEntity> findAllByGroupAndCodeIn(ContentGroupEntity contentGroup, Collection<String> codes);
+
     /**
      * Find all content in passed group
      *
@@ -62,4 +75,48 @@ public interface ContentRepository extends JpaRepository<ContentEntity, Long> {
      * @return found content
      */
     List<ContentEntity> findAllByGroup(ContentGroupEntity contentGroup);
+
+    /**
+     * Find all content in passed groups
+     *
+     * @param contentGroups content groups
+     * @return found content
+     */
+    List<ContentEntity> findAllByGroupIn(Collection<ContentGroupEntity> contentGroups);
+
+    /**
+     * Stream all content in passed group ordered by identifier.
+     * Stream should be consumed inside a transaction and closed after usage.
+     *
+     * @param contentGroup content group
+     * @return stream of found content
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "" + Constant.STREAM_FETCH_SIZE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<ContentEntity> streamAllByGroupOrderByIdAsc(ContentGroupEntity contentGroup);
+
+    /**
+     * Delete all contents in passed group with a single statement.
+     * Content attributes should be deleted before.
+     *
+     * @param groupId content group id
+     * @return number of deleted contents
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM content_attribute_content c WHERE c.group.id = :groupId")
+    int deleteAllByContentGroupId(@Param("groupId") long groupId);
+
+    /**
+     * Delete all contents in all groups of passed system with a single statement.
+     * Content attributes should be deleted before.
+     *
+     * @param systemId system id
+     * @return number of deleted contents
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM content_attribute_content c " +
+            "WHERE c.group.id IN (SELECT g.id FROM content_attribute_content_group g WHERE g.system.id = :systemId)")
+    int deleteAllBySystemId(@Param("systemId") long systemId);
 }
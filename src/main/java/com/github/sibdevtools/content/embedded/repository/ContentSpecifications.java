@@ -0,0 +1,96 @@
+package com.github.sibdevtools.content.embedded.repository;
+
+import com.github.sibdevtools.content.embedded.condition.AttributeCondition;
+import com.github.sibdevtools.content.embedded.condition.ConditionPlan;
+import com.github.sibdevtools.content.embedded.entity.AttributeEntity;
+import com.github.sibdevtools.content.embedded.entity.ContentEntity;
+import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications for content search.
+ * Attribute conditions are translated into correlated {@code EXISTS} sub-queries on content attributes,
+ * so filtering is done by the database.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentSpecifications {
+
+    /**
+     * Content belongs to passed group
+     *
+     * @param contentGroup content group
+     * @return content specification
+     */
+    public static Specification<ContentEntity> inGroup(ContentGroupEntity contentGroup) {
+        return (root, query, builder) -> builder.equal(root.get("group"), contentGroup);
+    }
+
+    /**
+     * Content code is greater than passed
+     *
+     * @param code content code, nullable
+     * @return content specification
+     */
+    public static Specification<ContentEntity> codeAfter(String code) {
+        if (code == null) {
+            return (root, query, builder) -> builder.conjunction();
+        }
+        return (root, query, builder) -> builder.greaterThan(root.get("code"), code);
+    }
+
+    /**
+     * Content attributes meet condition plan
+     *
+     * @param plan condition plan
+     * @return content specification
+     */
+    public static Specification<ContentEntity> meet(ConditionPlan plan) {
+        if (plan.isUnsatisfiable()) {
+            return (root, query, builder) -> builder.disjunction();
+        }
+        if (plan.isAll()) {
+            return (root, query, builder) -> builder.conjunction();
+        }
+        return Specification.allOf(
+                plan.conditions()
+                        .stream()
+                        .map(ContentSpecifications::meetCondition)
+                        .toList()
+        );
+    }
+
+    private static Specification<ContentEntity> meetCondition(AttributeCondition condition) {
+        var attribute = condition.attribute();
+        return switch (condition.operator()) {
+            case EQUALS -> hasAttribute(attribute, condition.value());
+            case NOT_NULL -> hasAttribute(attribute, null);
+            case IS_NULL -> Specification.not(hasAttribute(attribute, null));
+            case NOT_EQUALS -> Specification.not(hasAttribute(attribute, condition.value()));
+        };
+    }
+
+    private static Specification<ContentEntity> hasAttribute(String code, String value) {
+        return (root, query, builder) -> {
+            var subquery = query.subquery(Long.class);
+            var attribute = subquery.from(AttributeEntity.class);
+
+            var predicate = builder.and(
+                    builder.equal(attribute.get("contentId"), root.get("id")),
+                    builder.equal(attribute.get("code"), code)
+            );
+            if (value != null) {
+                predicate = builder.and(predicate, builder.equal(attribute.get("value"), value));
+            }
+
+            return builder.exists(
+                    subquery.select(attribute.get("id"))
+                            .where(predicate)
+            );
+        };
+    }
+}
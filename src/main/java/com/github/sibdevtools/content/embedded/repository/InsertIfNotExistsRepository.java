@@ -0,0 +1,119 @@
+package com.github.sibdevtools.content.embedded.repository;
+
+import com.github.sibdevtools.content.embedded.entity.ContentEntity;
+import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
+import com.github.sibdevtools.content.embedded.entity.SystemEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Inserts of systems, content groups and contents, which are skipped if a row with the same unique key exists.
+ * <p>
+ * MERGE does not see rows of concurrent not committed transactions, so a concurrent insert of the same key
+ * still fails on the unique index. Such duplicate key errors are treated as an existing row.
+ * Statements are executed by plain JDBC in the current transaction: H2 rolls back only the failed statement,
+ * while a failed JPA query would mark the whole transaction as rollback-only.
+ * Identifiers are allocated by the entities' pooled generators, so inserted rows share sequence pools
+ * with persisted entities.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Component
+@ConditionalOnProperty(name = "service.content.mode", havingValue = "EMBEDDED")
+public class InsertIfNotExistsRepository {
+    private static final String MERGE_SYSTEM = "MERGE INTO content_service.system AS t " +
+            "USING (SELECT CAST(? AS BIGINT) AS id, CAST(? AS VARCHAR_IGNORECASE(512)) AS code) AS s " +
+            "ON (t.code = s.code) " +
+            "WHEN NOT MATCHED THEN INSERT (id, code, created_at) VALUES (s.id, s.code, current_timestamp)";
+    private static final String MERGE_CONTENT_GROUP = "MERGE INTO content_service.content_group AS t " +
+            "USING (SELECT CAST(? AS BIGINT) AS id, " +
+            "CAST(? AS BIGINT) AS system_id, " +
+            "CAST(? AS VARCHAR_IGNORECASE(255)) AS type, " +
+            "CAST(? AS VARCHAR_IGNORECASE(512)) AS code) AS s " +
+            "ON (t.system_id = s.system_id AND t.type = s.type AND t.code = s.code) " +
+            "WHEN NOT MATCHED THEN INSERT (id, code, type, system_id, created_at) " +
+            "VALUES (s.id, s.code, s.type, s.system_id, current_timestamp)";
+    private static final String MERGE_CONTENT = "MERGE INTO content_service.content AS t " +
+            "USING (SELECT CAST(? AS BIGINT) AS id, " +
+            "CAST(? AS BIGINT) AS content_group_id, " +
+            "CAST(? AS VARCHAR_IGNORECASE(512)) AS code) AS s " +
+            "ON (t.content_group_id = s.content_group_id AND t.code = s.code) " +
+            "WHEN NOT MATCHED THEN INSERT (id, code, content, content_bytes, codec, content_group_id, created_at, modified_at) " +
+            "VALUES (s.id, s.code, ?, ?, ?, s.content_group_id, current_timestamp, current_timestamp)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public InsertIfNotExistsRepository(DataSource dataSource, EntityManager entityManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Create a system if not exists
+     *
+     * @param code system code
+     * @return number of inserted rows, 0 if system already exists
+     */
+    public int insertSystem(String code) {
+        return insert(MERGE_SYSTEM, nextId(SystemEntity.class), code);
+    }
+
+    /**
+     * Create a content group if not exists
+     *
+     * @param systemId system id
+     * @param type     content group type
+     * @param code     content group code
+     * @return number of inserted rows, 0 if group already exists
+     */
+    public int insertContentGroup(long systemId, String type, String code) {
+        return insert(MERGE_CONTENT_GROUP, nextId(ContentGroupEntity.class), systemId, type, code);
+    }
+
+    /**
+     * Create a content if not exists
+     *
+     * @param groupId      content group id
+     * @param code         content code
+     * @param content      encoded content, {@code null} if content is kept in binary storage
+     * @param contentBytes encoded content bytes, {@code null} if content is kept in text storage
+     * @param codec        content codec identifier
+     * @return number of inserted rows, 0 if content already exists
+     */
+    public int insertContent(long groupId, String code, String content, byte[] contentBytes, String codec) {
+        return insert(MERGE_CONTENT, nextId(ContentEntity.class), groupId, code, content, contentBytes, codec);
+    }
+
+    /**
+     * Allocate identifier by the entity's pooled sequence generator, same as on entity persist.
+     * Column default would fetch a whole pool from the sequence for each inserted row.
+     */
+    private Object nextId(Class<?> entityType) {
+        var session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        var persister = session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityType);
+        var generator = (BeforeExecutionGenerator) persister.getGenerator();
+        return generator.generate(session, null, null, EventType.INSERT);
+    }
+
+    private int insert(String sql, Object... args) {
+        // pending JPA changes, e.g. removed rows, should be visible to the statement
+        entityManager.flush();
+        try {
+            return jdbcTemplate.update(sql, args);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
+}
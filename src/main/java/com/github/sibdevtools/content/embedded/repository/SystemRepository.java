@@ -23,24 +23,13 @@ public interface SystemRepository extends JpaRepository<SystemEntity, Long> {
     Optional<SystemEntity> findByCode(String code);
 
     /**
-     * Save a new system by code if not exists.
+     * Delete system with a single statement.
+     * System groups should be deleted before.
      *
-     * @param code system code
-     */
-    @Modifying
-    @Query(
-            value = "INSERT INTO content_service.system (code, created_at) " +
-                    "SELECT :code, current_timestamp WHERE NOT EXISTS(" +
-                    "SELECT 1 FROM content_service.system WHERE code = :code" +
-                    ")",
-            nativeQuery = true
-    )
-    void saveIfNotExists(@Param("code") String code);
-
-    /**
-     * Delete a system by code
-     *
-     * @param systemCode system code
+     * @param systemId system id
+     * @return number of deleted systems
      */
-    void deleteByCode(String systemCode);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM content_attribute_system s WHERE s.id = :systemId")
+    int deleteBySystemId(@Param("systemId") long systemId);
 }
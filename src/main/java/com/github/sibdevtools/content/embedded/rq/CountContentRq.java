@@ -0,0 +1,25 @@
+package com.github.sibdevtools.content.embedded.rq;
+
+import com.github.sibdevtools.content.api.condition.Condition;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Request of the number of group contents, which meet conditions.
+ *
+ * @param systemCode group's system code
+ * @param type       group type
+ * @param groupCode  group code
+ * @param conditions attribute conditions, nullable
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Builder
+public record CountContentRq(
+        String systemCode,
+        String type,
+        String groupCode,
+        List<Condition> conditions
+) {
+}
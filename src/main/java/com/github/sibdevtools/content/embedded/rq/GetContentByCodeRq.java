@@ -0,0 +1,25 @@
+package com.github.sibdevtools.content.embedded.rq;
+
+import lombok.Builder;
+
+/**
+ * Request of a single group content by its code.
+ *
+ * @param systemCode  group's system code
+ * @param type        group type
+ * @param groupCode   group code
+ * @param code        content code
+ * @param contentType content's Java type
+ * @param <T>         content's type
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Builder
+public record GetContentByCodeRq<T>(
+        String systemCode,
+        String type,
+        String groupCode,
+        String code,
+        Class<T> contentType
+) {
+}
@@ -0,0 +1,27 @@
+package com.github.sibdevtools.content.embedded.rq;
+
+import lombok.Builder;
+
+import java.util.Collection;
+
+/**
+ * Request of group contents by their codes.
+ *
+ * @param systemCode  group's system code
+ * @param type        group type
+ * @param groupCode   group code
+ * @param codes       content codes
+ * @param contentType content's Java type
+ * @param <T>         content's type
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Builder
+public record GetContentByCodesRq<T>(
+        String systemCode,
+        String type,
+        String groupCode,
+        Collection<String> codes,
+        Class<T> contentType
+) {
+}
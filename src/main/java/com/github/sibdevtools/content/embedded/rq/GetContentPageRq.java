@@ -0,0 +1,40 @@
+package com.github.sibdevtools.content.embedded.rq;
+
+import com.github.sibdevtools.content.api.condition.Condition;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Request of a content page of the group.
+ * Contents are ordered by code. Next page can be requested either by {@code afterCode} (keyset pagination)
+ * or by {@code offset}.
+ *
+ * @param systemCode  group's system code
+ * @param type        group type
+ * @param groupCode   group code
+ * @param contentType content's Java type
+ * @param conditions  attribute conditions, nullable
+ * @param afterCode   return contents with code greater than passed, nullable
+ * @param offset      number of contents to skip
+ * @param limit       maximum number of contents in the page, from 1 to {@link #MAX_LIMIT}
+ * @param <T>         content's type
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Builder
+public record GetContentPageRq<T>(
+        String systemCode,
+        String type,
+        String groupCode,
+        Class<T> contentType,
+        List<Condition> conditions,
+        String afterCode,
+        int offset,
+        int limit
+) {
+    /**
+     * Maximum allowed page size
+     */
+    public static final int MAX_LIMIT = 10_000;
+}
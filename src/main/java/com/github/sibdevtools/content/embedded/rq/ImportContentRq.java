@@ -0,0 +1,25 @@
+package com.github.sibdevtools.content.embedded.rq;
+
+import com.github.sibdevtools.content.embedded.rs.ImportContentRs;
+import com.github.sibdevtools.content.mutable.api.rq.CreateContentRq;
+import lombok.Builder;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Request of bulk contents import.
+ *
+ * @param contents         contents to import, may belong to different groups
+ * @param upsert           update already existing contents and their attributes, otherwise existing contents are skipped
+ * @param progressListener optional listener, called after each committed chunk with totals so far
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Builder
+public record ImportContentRq(
+        Stream<? extends CreateContentRq<?>> contents,
+        boolean upsert,
+        Consumer<ImportContentRs> progressListener
+) {
+}
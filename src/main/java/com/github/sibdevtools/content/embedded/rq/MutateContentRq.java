@@ -0,0 +1,19 @@
+package com.github.sibdevtools.content.embedded.rq;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Request of batch mutation.
+ * Supported operations are mutable content API requests:
+ * {@code CreateSystemRq}, {@code DeleteSystemRq}, {@code CreateContentGroupRq}, {@code DeleteContentGroupRq},
+ * {@code CreateContentRq}, {@code UpdateContentRq}, {@code UpdateContentAttributesRq} and {@code DeleteContentRq}.
+ *
+ * @param operations operations to apply in passed order
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Builder
+public record MutateContentRq(List<?> operations) {
+}
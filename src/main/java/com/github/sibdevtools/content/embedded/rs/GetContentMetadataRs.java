@@ -0,0 +1,15 @@
+package com.github.sibdevtools.content.embedded.rs;
+
+import com.github.sibdevtools.content.embedded.dto.ContentMetadataHolder;
+
+import java.util.Map;
+
+/**
+ * Group contents' metadata.
+ *
+ * @param contents contents' metadata by content code
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record GetContentMetadataRs(Map<String, ContentMetadataHolder> contents) {
+}
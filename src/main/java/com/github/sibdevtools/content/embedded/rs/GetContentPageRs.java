@@ -0,0 +1,17 @@
+package com.github.sibdevtools.content.embedded.rs;
+
+import com.github.sibdevtools.content.api.dto.ContentHolder;
+
+import java.util.List;
+
+/**
+ * Content page of the group.
+ *
+ * @param contents page contents ordered by code
+ * @param nextCode code to request the next page with, {@code null} if the page is the last one
+ * @param <T>      content's type
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record GetContentPageRs<T>(List<ContentHolder<T>> contents, String nextCode) {
+}
@@ -0,0 +1,16 @@
+package com.github.sibdevtools.content.embedded.rs;
+
+import com.github.sibdevtools.content.embedded.dto.LazyContentHolder;
+
+import java.util.Map;
+
+/**
+ * Group contents, which bodies are decoded on access.
+ *
+ * @param contents lazy contents by content code
+ * @param <T>      content's type
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record GetLazyContentRs<T>(Map<String, LazyContentHolder<T>> contents) {
+}
@@ -0,0 +1,29 @@
+package com.github.sibdevtools.content.embedded.rs;
+
+/**
+ * Bulk contents import totals.
+ *
+ * @param processed number of processed contents
+ * @param created   number of created contents
+ * @param updated   number of updated contents
+ * @param skipped   number of contents left as is: already existing, not changed or duplicated
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record ImportContentRs(long processed, long created, long updated, long skipped) {
+
+    /**
+     * Sum totals of two imports
+     *
+     * @param other other import totals
+     * @return summed totals
+     */
+    public ImportContentRs plus(ImportContentRs other) {
+        return new ImportContentRs(
+                processed + other.processed,
+                created + other.created,
+                updated + other.updated,
+                skipped + other.skipped
+        );
+    }
+}
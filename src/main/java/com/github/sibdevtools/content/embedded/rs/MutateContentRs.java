@@ -0,0 +1,15 @@
+package com.github.sibdevtools.content.embedded.rs;
+
+import com.github.sibdevtools.content.embedded.dto.MutationResult;
+
+import java.util.List;
+
+/**
+ * Batch mutation results.
+ *
+ * @param results operation results in order of requested operations
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public record MutateContentRs(List<MutationResult> results) {
+}
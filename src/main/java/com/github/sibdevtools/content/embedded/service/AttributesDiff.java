@@ -0,0 +1,80 @@
+package com.github.sibdevtools.content.embedded.service;
+
+import com.github.sibdevtools.content.embedded.entity.AttributeEntity;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Difference between stored content attributes and requested ones.
+ *
+ * @param toRemove identifiers of attributes to remove
+ * @param toSave   changed and new attributes to save
+ * @author sibmaks
+ * @since 0.0.11
+ */
+record AttributesDiff(List<Long> toRemove, List<AttributeEntity> toSave) {
+
+    /**
+     * Compare stored content attributes with requested ones.
+     * Changed stored attributes are modified in place.
+     *
+     * @param contentId         content identifier
+     * @param attributeEntities stored content attributes
+     * @param attributes        requested content attributes
+     * @param now               modification timestamp
+     * @return attributes difference
+     */
+    static AttributesDiff of(
+            long contentId,
+            List<AttributeEntity> attributeEntities,
+            Map<String, String> attributes,
+            ZonedDateTime now
+    ) {
+        var toRemove = new ArrayList<Long>();
+        var toSave = new ArrayList<AttributeEntity>();
+
+        var newAttributes = new HashMap<>(attributes);
+        for (var attributeEntity : attributeEntities) {
+            var attributeCode = attributeEntity.getCode();
+
+            if (newAttributes.containsKey(attributeCode)) {
+                var value = attributeEntity.getValue();
+                var newValue = newAttributes.remove(attributeCode);
+                if (!Objects.equals(value, newValue)) {
+                    attributeEntity.setValue(newValue);
+                    attributeEntity.setModifiedAt(now);
+                    toSave.add(attributeEntity);
+                }
+            } else {
+                toRemove.add(attributeEntity.getId());
+            }
+        }
+
+        for (var attributeEntry : newAttributes.entrySet()) {
+            var attributeEntity = AttributeEntity.builder()
+                    .contentId(contentId)
+                    .code(attributeEntry.getKey())
+                    .value(attributeEntry.getValue())
+                    .createdAt(now)
+                    .modifiedAt(now)
+                    .build();
+            toSave.add(attributeEntity);
+        }
+
+        return new AttributesDiff(toRemove, toSave);
+    }
+
+    /**
+     * Check is there any difference
+     *
+     * @return true if stored attributes are the same as requested, false otherwise
+     */
+    boolean isEmpty() {
+        return toRemove.isEmpty() && toSave.isEmpty();
+    }
+}
@@ -0,0 +1,366 @@
+package com.github.sibdevtools.content.embedded.service;
+
+import com.github.sibdevtools.content.embedded.cache.ContentGroupKey;
+import com.github.sibdevtools.content.embedded.cache.ContentGroupSnapshot;
+import com.github.sibdevtools.content.embedded.cache.ContentSnapshot;
+import com.github.sibdevtools.content.embedded.condition.ConditionPlan;
+import com.github.sibdevtools.content.embedded.entity.AttributeEntity;
+import com.github.sibdevtools.content.embedded.entity.ContentEntity;
+import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
+import com.github.sibdevtools.content.embedded.exception.NotFoundException;
+import com.github.sibdevtools.content.embedded.repository.AttributeRepository;
+import com.github.sibdevtools.content.embedded.repository.ContentGroupRepository;
+import com.github.sibdevtools.content.embedded.repository.ContentGroupSpecifications;
+import com.github.sibdevtools.content.embedded.repository.ContentRepository;
+import com.github.sibdevtools.content.embedded.repository.ContentSpecifications;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Loader of contents with their attributes from the storage
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "service.content.mode", havingValue = "EMBEDDED")
+public class ContentLoader {
+    private static final int ATTRIBUTES_BATCH_SIZE = 1000;
+
+    private final AttributeRepository attributeRepository;
+    private final ContentRepository contentRepository;
+    private final ContentGroupRepository contentGroupRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Load all contents of the group
+     *
+     * @param key content group key
+     * @return content group snapshot
+     */
+    @Transactional(readOnly = true)
+    public ContentGroupSnapshot loadGroup(@Nonnull ContentGroupKey key) {
+        var contentGroup = getContentGroup(key);
+
+        var contents = contentRepository.findAllByGroup(contentGroup);
+        var contentsAttributes = getAttributes(contentGroup);
+
+        return ContentGroupSnapshot.of(toSnapshots(contents, contentsAttributes));
+    }
+
+    /**
+     * Load all contents of the groups with a constant number of queries
+     *
+     * @param keys content group keys
+     * @return content group snapshots by keys
+     */
+    @Transactional(readOnly = true)
+    public Map<ContentGroupKey, ContentGroupSnapshot> loadGroups(@Nonnull Collection<ContentGroupKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        var contentGroups = contentGroupRepository.findAll(ContentGroupSpecifications.anyOf(keys));
+        var groupKeys = contentGroups.stream()
+                .collect(Collectors.toMap(ContentGroupEntity::getId, ContentLoader::toKey));
+        if (!groupKeys.values().containsAll(keys)) {
+            throw new NotFoundException("Content group not found");
+        }
+
+        var contents = contentRepository.findAllByGroupIn(contentGroups);
+        var contentsAttributes = groupByContent(attributeRepository.findAllByContentGroupIn(contentGroups));
+
+        var groupsContents = contents.stream()
+                .collect(Collectors.groupingBy(it -> groupKeys.get(it.getGroup().getId())));
+
+        var snapshots = new HashMap<ContentGroupKey, ContentGroupSnapshot>();
+        for (var key : groupKeys.values()) {
+            var groupContents = groupsContents.getOrDefault(key, List.of());
+            snapshots.put(key, ContentGroupSnapshot.of(toSnapshots(groupContents, contentsAttributes)));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Load contents of the group, which meet condition plan
+     *
+     * @param key  content group key
+     * @param plan condition plan
+     * @return list of found contents
+     */
+    @Transactional(readOnly = true)
+    public List<ContentSnapshot> load(@Nonnull ContentGroupKey key, @Nonnull ConditionPlan plan) {
+        var contentGroup = getContentGroup(key);
+
+        var contents = contentRepository.findAll(
+                ContentSpecifications.inGroup(contentGroup)
+                        .and(ContentSpecifications.meet(plan))
+        );
+        var contentsAttributes = plan.isAll() ?
+                getAttributes(contentGroup) :
+                getAttributes(contents);
+
+        return toSnapshots(contents, contentsAttributes);
+    }
+
+    /**
+     * Load group contents by codes using the unique content index
+     *
+     * @param key   content group key
+     * @param codes content codes
+     * @return list of found contents
+     * @throws NotFoundException if content group not found
+     */
+    @Transactional(readOnly = true)
+    public List<ContentSnapshot> loadByCodes(@Nonnull ContentGroupKey key, @Nonnull Collection<String> codes) {
+        var contentGroup = getContentGroup(key);
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        var contents = contentRepository.findAllByGroupAndCodeIn(contentGroup, codes);
+        return toSnapshots(contents, getAttributes(contents));
+    }
+
+    /**
+     * Count contents of the group, which meet condition plan
+     *
+     * @param key  content group key
+     * @param plan condition plan
+     * @return number of found contents
+     */
+    @Transactional(readOnly = true)
+    public long count(@Nonnull ContentGroupKey key, @Nonnull ConditionPlan plan) {
+        var contentGroup = getContentGroup(key);
+        if (plan.isUnsatisfiable()) {
+            return 0;
+        }
+        return contentRepository.count(
+                ContentSpecifications.inGroup(contentGroup)
+                        .and(ContentSpecifications.meet(plan))
+        );
+    }
+
+    /**
+     * Load contents of the group, which meet condition plan, without content bodies
+     *
+     * @param key  content group key
+     * @param plan condition plan
+     * @return list of found contents, content bodies and codecs are {@code null}
+     */
+    @Transactional(readOnly = true)
+    public List<ContentSnapshot> loadMetadata(@Nonnull ContentGroupKey key, @Nonnull ConditionPlan plan) {
+        var contentGroup = getContentGroup(key);
+
+        var specification = ContentSpecifications.inGroup(contentGroup)
+                .and(ContentSpecifications.meet(plan));
+
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createTupleQuery();
+        var root = query.from(ContentEntity.class);
+        query.multiselect(
+                        root.get("id"),
+                        root.get("code"),
+                        root.get("modifiedAt")
+                )
+                .where(specification.toPredicate(root, query, builder));
+
+        var tuples = entityManager.createQuery(query)
+                .getResultList();
+        var contentIds = tuples.stream()
+                .map(it -> it.get(0, Long.class))
+                .toList();
+        var contentsAttributes = plan.isAll() ?
+                getAttributes(contentGroup) :
+                getAttributesByIds(contentIds);
+
+        return tuples.stream()
+                .map(it -> {
+                    var contentId = it.get(0, Long.class);
+                    return new ContentSnapshot(
+                            contentId,
+                            it.get(1, String.class),
+                            null,
+                            null,
+                            null,
+                            contentsAttributes.getOrDefault(contentId, Map.of()),
+                            it.get(2, ZonedDateTime.class)
+                    );
+                })
+                .toList();
+    }
+
+    /**
+     * Load a page of group contents, which meet condition plan, ordered by content code
+     *
+     * @param key       content group key
+     * @param plan      condition plan
+     * @param afterCode load contents with code greater than passed, nullable
+     * @param offset    number of contents to skip
+     * @param limit     maximum number of contents to load
+     * @return list of found contents
+     */
+    @Transactional(readOnly = true)
+    public List<ContentSnapshot> loadPage(
+            @Nonnull ContentGroupKey key,
+            @Nonnull ConditionPlan plan,
+            String afterCode,
+            int offset,
+            int limit
+    ) {
+        var contentGroup = getContentGroup(key);
+
+        var specification = ContentSpecifications.inGroup(contentGroup)
+                .and(ContentSpecifications.codeAfter(afterCode))
+                .and(ContentSpecifications.meet(plan));
+
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(ContentEntity.class);
+        var root = query.from(ContentEntity.class);
+        query.where(specification.toPredicate(root, query, builder))
+                .orderBy(builder.asc(root.get("code")));
+
+        var contents = entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return toSnapshots(contents, getAttributes(contents));
+    }
+
+    /**
+     * Stream contents of the group, which meet condition plan, one at a time.
+     * Contents and attributes are read by two cursors ordered by content identifier and merged,
+     * processed entities are detached, so memory usage does not depend on group size.
+     *
+     * @param key      content group key
+     * @param plan     condition plan
+     * @param consumer found content consumer
+     */
+    @Transactional(readOnly = true)
+    public void stream(
+            @Nonnull ContentGroupKey key,
+            @Nonnull ConditionPlan plan,
+            @Nonnull Consumer<ContentSnapshot> consumer
+    ) {
+        var contentGroup = getContentGroup(key);
+        if (plan.isUnsatisfiable()) {
+            return;
+        }
+
+        try (var contents = contentRepository.streamAllByGroupOrderByIdAsc(contentGroup);
+             var attributes = attributeRepository.streamAllByContentGroup(contentGroup)) {
+            var attributeIterator = attributes.iterator();
+            AttributeEntity nextAttribute = null;
+
+            for (var contentIterator = contents.iterator(); contentIterator.hasNext(); ) {
+                var content = contentIterator.next();
+                var contentId = content.getId();
+
+                var contentAttributes = new HashMap<String, String>();
+                while (nextAttribute != null || attributeIterator.hasNext()) {
+                    var attribute = nextAttribute == null ? attributeIterator.next() : nextAttribute;
+                    if (attribute.getContentId() > contentId) {
+                        nextAttribute = attribute;
+                        break;
+                    }
+                    nextAttribute = null;
+                    entityManager.detach(attribute);
+                    if (attribute.getContentId() == contentId && attribute.getValue() != null) {
+                        contentAttributes.put(attribute.getCode(), attribute.getValue());
+                    }
+                }
+
+                if (plan.test(contentAttributes)) {
+                    var snapshot = new ContentSnapshot(
+                            contentId,
+                            content.getCode(),
+                            content.getContent(),
+                            content.getContentBytes(),
+                            content.getCodec(),
+                            contentAttributes,
+                            content.getModifiedAt()
+                    );
+                    entityManager.detach(content);
+                    consumer.accept(snapshot);
+                } else {
+                    entityManager.detach(content);
+                }
+            }
+        }
+    }
+
+    private ContentGroupEntity getContentGroup(ContentGroupKey key) {
+        return contentGroupRepository.findBySystem_CodeAndTypeAndCode(
+                key.systemCode(),
+                key.type(),
+                key.groupCode()
+        ).orElseThrow(() -> new NotFoundException("Content group not found"));
+    }
+
+    private static ContentGroupKey toKey(ContentGroupEntity contentGroup) {
+        return ContentGroupKey.of(
+                contentGroup.getSystem().getCode(),
+                contentGroup.getType(),
+                contentGroup.getCode()
+        );
+    }
+
+    private Map<Long, Map<String, String>> getAttributes(ContentGroupEntity contentGroup) {
+        return groupByContent(attributeRepository.findAllByContentGroup(contentGroup));
+    }
+
+    private Map<Long, Map<String, String>> getAttributes(List<ContentEntity> contents) {
+        var contentIds = contents.stream()
+                .map(ContentEntity::getId)
+                .toList();
+        return getAttributesByIds(contentIds);
+    }
+
+    private Map<Long, Map<String, String>> getAttributesByIds(List<Long> contentIds) {
+        var attributes = new ArrayList<AttributeEntity>();
+        for (int from = 0; from < contentIds.size(); from += ATTRIBUTES_BATCH_SIZE) {
+            var to = Math.min(from + ATTRIBUTES_BATCH_SIZE, contentIds.size());
+            attributes.addAll(attributeRepository.findAllByContentIdIn(contentIds.subList(from, to)));
+        }
+        return groupByContent(attributes);
+    }
+
+    private static Map<Long, Map<String, String>> groupByContent(List<AttributeEntity> attributes) {
+        return attributes.stream()
+                .filter(it -> it.getValue() != null)
+                .collect(Collectors.groupingBy(
+                        AttributeEntity::getContentId,
+                        Collectors.toMap(AttributeEntity::getCode, AttributeEntity::getValue)
+                ));
+    }
+
+    private static List<ContentSnapshot> toSnapshots(
+            List<ContentEntity> contents,
+            Map<Long, Map<String, String>> contentsAttributes
+    ) {
+        return contents.stream()
+                .map(it -> new ContentSnapshot(
+                        it.getId(),
+                        it.getCode(),
+                        it.getContent(),
+                        it.getContentBytes(),
+                        it.getCodec(),
+                        contentsAttributes.getOrDefault(it.getId(), Map.of()),
+                        it.getModifiedAt()
+                ))
+                .toList();
+    }
+}
@@ -1,27 +1,43 @@
 package com.github.sibdevtools.content.embedded.service;
 
-import com.github.sibdevtools.content.api.condition.*;
 import com.github.sibdevtools.content.api.dto.ContentHolder;
 import com.github.sibdevtools.content.api.rq.GetContentRq;
 import com.github.sibdevtools.content.api.rs.GetContentRs;
 import com.github.sibdevtools.content.api.service.ContentService;
-import com.github.sibdevtools.content.embedded.codec.ContentCodec;
-import com.github.sibdevtools.content.embedded.entity.AttributeEntity;
+import com.github.sibdevtools.content.embedded.cache.ContentGroupCache;
+import com.github.sibdevtools.content.embedded.cache.ContentGroupKey;
+import com.github.sibdevtools.content.embedded.cache.ContentGroupSnapshot;
+import com.github.sibdevtools.content.embedded.cache.ContentSnapshot;
+import com.github.sibdevtools.content.embedded.cache.DecodedContentCache;
+import com.github.sibdevtools.content.embedded.codec.ContentCodecRegistry;
+import com.github.sibdevtools.content.embedded.condition.ConditionPlan;
+import com.github.sibdevtools.content.embedded.condition.ConditionPlanCache;
+import com.github.sibdevtools.content.embedded.dto.ContentMetadataHolder;
+import com.github.sibdevtools.content.embedded.dto.LazyContentHolder;
+import com.github.sibdevtools.content.embedded.exception.InvalidRequestException;
 import com.github.sibdevtools.content.embedded.exception.NotFoundException;
-import com.github.sibdevtools.content.embedded.exception.NotSupportedException;
-import com.github.sibdevtools.content.embedded.repository.AttributeRepository;
-import com.github.sibdevtools.content.embedded.repository.ContentGroupRepository;
-import com.github.sibdevtools.content.embedded.repository.ContentRepository;
+import com.github.sibdevtools.content.embedded.rq.CountContentRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentByCodeRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentByCodesRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentMetadataRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentPageRq;
+import com.github.sibdevtools.content.embedded.rs.GetContentMetadataRs;
+import com.github.sibdevtools.content.embedded.rs.GetContentPageRs;
+import com.github.sibdevtools.content.embedded.rs.GetLazyContentRs;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * @author sibmaks
@@ -31,82 +47,289 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "service.content.mode", havingValue = "EMBEDDED")
 public class ContentServiceEmbedded implements ContentService {
-    private final AttributeRepository attributeRepository;
-    private final ContentRepository contentRepository;
-    private final ContentGroupRepository contentGroupRepository;
-    private final ContentCodec codec;
+    private final ContentLoader contentLoader;
+    private final ContentGroupCache contentGroupCache;
+    private final DecodedContentCache decodedContentCache;
+    private final ConditionPlanCache conditionPlanCache;
+    private final ContentCodecRegistry codecRegistry;
 
     @Override
     public <T> GetContentRs<T> getContent(@Nonnull GetContentRq<T> rq) {
-        var contentGroup = contentGroupRepository.findBySystem_CodeAndTypeAndCode(
-                rq.systemCode(),
-                rq.type(),
-                rq.groupCode()
-        ).orElseThrow(() -> new NotFoundException("Content group not found"));
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+        var plan = conditionPlanCache.get(rq.conditions());
 
-        var conditions = rq.conditions();
+        var contents = findContents(key, plan, contentLoader::load);
 
-        var rsContents = new HashMap<String, ContentHolder<T>>();
+        return toRs(rq, contents);
+    }
+
+    /**
+     * Get group contents, which meet request conditions, without decoding their bodies.
+     * Each body is decoded on the first access to it, so only used contents are decoded.
+     *
+     * @param rq  get content request
+     * @param <T> content's type
+     * @return lazy contents
+     */
+    public <T> GetLazyContentRs<T> getContentLazy(@Nonnull GetContentRq<T> rq) {
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+        var plan = conditionPlanCache.get(rq.conditions());
+
+        var contents = findContents(key, plan, contentLoader::load);
 
-        var contents = contentRepository.findAllByGroup(contentGroup);
+        var rsContents = new HashMap<String, LazyContentHolder<T>>();
         for (var content : contents) {
-            var attributes = attributeRepository.findAllByContentId(content.getId())
-                    .stream()
-                    .filter(it -> it.getValue() != null)
-                    .collect(Collectors.toMap(AttributeEntity::getCode, AttributeEntity::getValue));
+            rsContents.put(
+                    content.code(),
+                    new LazyContentHolder<>(
+                            content.id(),
+                            content.code(),
+                            content.attributes(),
+                            content.modifiedAt(),
+                            () -> decode(content, rq.contentType())
+                    )
+            );
+        }
+        return new GetLazyContentRs<>(rsContents);
+    }
+
+    /**
+     * Get contents of many groups at once.
+     * All groups, contents and attributes are loaded with a constant number of queries.
+     *
+     * @param rqs get content requests
+     * @return responses in order of passed requests
+     */
+    public List<GetContentRs<?>> getContents(@Nonnull List<GetContentRq<?>> rqs) {
+        var keys = new LinkedHashSet<ContentGroupKey>();
+        for (var rq : rqs) {
+            keys.add(ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode()));
+        }
 
-            var allMet = conditions == null || checkConditions(conditions, attributes);
+        var snapshots = contentGroupCache.isEnabled() ?
+                contentGroupCache.getAll(keys, contentLoader::loadGroups) :
+                contentLoader.loadGroups(keys);
 
-            if (!allMet) {
-                continue;
-            }
-            var decoded = codec.decode(content.getContent(), rq.contentType());
+        var responses = new ArrayList<GetContentRs<?>>(rqs.size());
+        for (var rq : rqs) {
+            var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+            var plan = conditionPlanCache.get(rq.conditions());
+            var contents = snapshots.get(key).find(plan);
+            responses.add(toRs(rq, contents));
+        }
+        return responses;
+    }
 
-            var contentCode = content.getCode();
+    /**
+     * Stream contents of the group, which meet request conditions.
+     * Contents are read from the storage and decoded one at a time, so memory usage does not depend on group size.
+     * Group cache is not used, consumer is called inside a read-only transaction.
+     *
+     * @param rq       get content request
+     * @param consumer found content consumer
+     * @param <T>      content's type
+     */
+    public <T> void streamContent(@Nonnull GetContentRq<T> rq, @Nonnull Consumer<ContentHolder<T>> consumer) {
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+        var plan = conditionPlanCache.get(rq.conditions());
 
-            var contentHolder = ContentHolder.<T>builder()
-                    .code(contentCode)
-                    .content(decoded)
-                    .attributes(attributes)
-                    .build();
+        contentLoader.stream(
+                key,
+                plan,
+                content -> consumer.accept(toHolder(content, decodeRaw(content, rq.contentType())))
+        );
+    }
 
-            rsContents.put(contentCode, contentHolder);
+    /**
+     * Get a page of group contents, which meet request conditions, ordered by content code.
+     * Pagination is done by the storage, group cache is not used.
+     * Page size is limited by {@link GetContentPageRq#MAX_LIMIT}.
+     *
+     * @param rq get content page request
+     * @param <T> content's type
+     * @return content page
+     */
+    public <T> GetContentPageRs<T> getContentPage(@Nonnull GetContentPageRq<T> rq) {
+        if (rq.limit() <= 0) {
+            throw new InvalidRequestException("Limit should be positive");
+        }
+        if (rq.limit() > GetContentPageRq.MAX_LIMIT) {
+            throw new InvalidRequestException("Limit should not exceed " + GetContentPageRq.MAX_LIMIT);
+        }
+        if (rq.offset() < 0) {
+            throw new InvalidRequestException("Offset should not be negative");
+        }
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+        var plan = conditionPlanCache.get(rq.conditions());
+
+        var contents = contentLoader.loadPage(key, plan, rq.afterCode(), rq.offset(), rq.limit() + 1);
+        var hasNext = contents.size() > rq.limit();
+        if (hasNext) {
+            contents = contents.subList(0, rq.limit());
+        }
+
+        var holders = contents.stream()
+                .map(it -> toHolder(it, decode(it, rq.contentType())))
+                .toList();
+        var nextCode = hasNext ? contents.getLast().code() : null;
+
+        return new GetContentPageRs<>(holders, nextCode);
+    }
+
+    /**
+     * Get metadata of group contents, which meet request conditions.
+     * Content bodies are neither loaded nor decoded.
+     *
+     * @param rq get content metadata request
+     * @return contents' metadata
+     */
+    public GetContentMetadataRs getContentMetadata(@Nonnull GetContentMetadataRq rq) {
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+        var plan = conditionPlanCache.get(rq.conditions());
+
+        var contents = findContents(key, plan, contentLoader::loadMetadata);
+
+        var rsContents = new HashMap<String, ContentMetadataHolder>();
+        for (var content : contents) {
+            rsContents.put(
+                    content.code(),
+                    new ContentMetadataHolder(
+                            content.id(),
+                            content.code(),
+                            content.attributes(),
+                            content.modifiedAt()
+                    )
+            );
+        }
+        return new GetContentMetadataRs(rsContents);
+    }
+
+    /**
+     * Get a single group content by its code.
+     *
+     * @param rq  get content by code request
+     * @param <T> content's type
+     * @return found content
+     * @throws NotFoundException if content group or content not found
+     */
+    public <T> ContentHolder<T> getContentByCode(@Nonnull GetContentByCodeRq<T> rq) {
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+
+        var content = fromGroup(
+                key,
+                snapshot -> snapshot.findByCode(rq.code()),
+                () -> contentLoader.loadByCodes(key, List.of(rq.code())).stream().findFirst()
+        );
+
+        return content.map(it -> toHolder(it, decode(it, rq.contentType())))
+                .orElseThrow(() -> new NotFoundException("Content not found"));
+    }
+
+    /**
+     * Get group contents by their codes. Not found codes are absent in the response.
+     *
+     * @param rq  get content by codes request
+     * @param <T> content's type
+     * @return found contents by code
+     * @throws NotFoundException if content group not found
+     */
+    public <T> GetContentRs<T> getContentByCodes(@Nonnull GetContentByCodesRq<T> rq) {
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+
+        var contents = fromGroup(
+                key,
+                snapshot -> rq.codes()
+                        .stream()
+                        .map(snapshot::findByCode)
+                        .flatMap(Optional::stream)
+                        .distinct()
+                        .toList(),
+                () -> contentLoader.loadByCodes(key, rq.codes())
+        );
+
+        var rsContents = new HashMap<String, ContentHolder<T>>();
+        for (var content : contents) {
+            rsContents.put(content.code(), toHolder(content, decode(content, rq.contentType())));
+        }
+        return new GetContentRs<>(rsContents);
+    }
+
+    /**
+     * Count group contents, which meet request conditions.
+     * Counted by a single query or by the attribute index of the cached group.
+     *
+     * @param rq count content request
+     * @return number of found contents
+     */
+    public long countContent(@Nonnull CountContentRq rq) {
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+        var plan = conditionPlanCache.get(rq.conditions());
+
+        return fromGroup(
+                key,
+                snapshot -> (long) snapshot.count(plan),
+                () -> contentLoader.count(key, plan)
+        );
+    }
+
+    private List<ContentSnapshot> findContents(
+            ContentGroupKey key,
+            ConditionPlan plan,
+            BiFunction<ContentGroupKey, ConditionPlan, List<ContentSnapshot>> fallbackLoader
+    ) {
+        return fromGroup(
+                key,
+                snapshot -> snapshot.find(plan),
+                () -> fallbackLoader.apply(key, plan)
+        );
+    }
+
+    /**
+     * Read from the cached group snapshot or, if group cache is disabled, from the storage
+     */
+    private <R> R fromGroup(
+            ContentGroupKey key,
+            Function<ContentGroupSnapshot, R> cachedReader,
+            Supplier<R> fallbackLoader
+    ) {
+        if (!contentGroupCache.isEnabled()) {
+            return fallbackLoader.get();
+        }
+        return cachedReader.apply(contentGroupCache.get(key, contentLoader::loadGroup));
+    }
+
+    private <T> GetContentRs<T> toRs(GetContentRq<T> rq, List<ContentSnapshot> contents) {
+        var rsContents = new HashMap<String, ContentHolder<T>>();
+
+        for (var content : contents) {
+            rsContents.put(content.code(), toHolder(content, decode(content, rq.contentType())));
         }
 
         return new GetContentRs<>(rsContents);
     }
 
-    private boolean checkConditions(List<Condition> conditions, Map<String, String> attributes) {
-        for (var condition : conditions) {
-            switch (condition) {
-                case EqualsCondition equalsCondition -> {
-                    var value = attributes.get(equalsCondition.getAttribute());
-                    if (!Objects.equals(value, equalsCondition.getValue())) {
-                        return false;
-                    }
-                }
-                case NotEqualsCondition notEqualsCondition -> {
-                    var value = attributes.get(notEqualsCondition.getAttribute());
-                    if (Objects.equals(value, notEqualsCondition.getValue())) {
-                        return false;
-                    }
-                }
-                case IsNullCondition isNullCondition -> {
-                    var value = attributes.get(isNullCondition.getAttribute());
-                    if (value != null) {
-                        return false;
-                    }
-                }
-                case NotNullCondition notNullCondition -> {
-                    var value = attributes.get(notNullCondition.getAttribute());
-                    if (value == null) {
-                        return false;
-                    }
-                }
-                default -> throw new NotSupportedException("Unknown condition type");
-            }
+    private <T> T decode(ContentSnapshot content, Class<T> type) {
+        return decodedContentCache.get(
+                content,
+                type,
+                () -> decodeRaw(content, type)
+        );
+    }
+
+    private <T> T decodeRaw(ContentSnapshot content, Class<T> type) {
+        var codec = codecRegistry.get(content.codec());
+        if (content.contentBytes() != null) {
+            return codec.decodeBytes(content.contentBytes(), type);
         }
-        return true;
+        return codec.decode(content.content(), type);
+    }
+
+    private static <T> ContentHolder<T> toHolder(ContentSnapshot content, T decoded) {
+        return ContentHolder.<T>builder()
+                .code(content.code())
+                .content(decoded)
+                .attributes(content.attributes())
+                .build();
     }
 
 }
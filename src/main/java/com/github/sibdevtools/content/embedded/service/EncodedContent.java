@@ -0,0 +1,59 @@
+package com.github.sibdevtools.content.embedded.service;
+
+import com.github.sibdevtools.content.embedded.codec.ContentCodec;
+import com.github.sibdevtools.content.embedded.codec.ContentStorage;
+import com.github.sibdevtools.content.embedded.entity.ContentEntity;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Content value encoded for one of the content storages.
+ * Only one of representations is set, another one is {@code null}.
+ *
+ * @param codec        codec identifier
+ * @param content      encoded content, if kept in text storage
+ * @param contentBytes encoded content bytes, if kept in binary storage
+ * @author sibmaks
+ * @since 0.0.11
+ */
+record EncodedContent(String codec, String content, byte[] contentBytes) {
+
+    /**
+     * Encode content value for passed storage
+     *
+     * @param codec   content codec
+     * @param value   content value
+     * @param storage content storage
+     * @return encoded content
+     */
+    static EncodedContent of(ContentCodec codec, Object value, ContentStorage storage) {
+        return switch (storage) {
+            case TEXT -> new EncodedContent(codec.getId(), codec.encode(value), null);
+            case BINARY -> new EncodedContent(codec.getId(), null, codec.encodeBytes(value));
+        };
+    }
+
+    /**
+     * Check if passed entity already keeps this encoded content
+     *
+     * @param entity content entity
+     * @return true if entity content is the same, false otherwise
+     */
+    boolean isStoredIn(ContentEntity entity) {
+        return Objects.equals(codec, entity.getCodec()) &&
+                Objects.equals(content, entity.getContent()) &&
+                Arrays.equals(contentBytes, entity.getContentBytes());
+    }
+
+    /**
+     * Set encoded content into passed entity
+     *
+     * @param entity content entity
+     */
+    void applyTo(ContentEntity entity) {
+        entity.setCodec(codec);
+        entity.setContent(content);
+        entity.setContentBytes(contentBytes);
+    }
+}
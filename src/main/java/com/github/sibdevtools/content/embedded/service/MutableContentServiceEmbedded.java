@@ -1,25 +1,51 @@
 package com.github.sibdevtools.content.embedded.service;
 
-import com.github.sibdevtools.content.embedded.codec.ContentCodec;
+import com.github.sibdevtools.content.embedded.cache.AttributeCodeDictionary;
+import com.github.sibdevtools.content.embedded.cache.ContentGroupKey;
+import com.github.sibdevtools.content.embedded.codec.ContentCodecRegistry;
+import com.github.sibdevtools.content.embedded.conf.ContentServiceEmbeddedBatchProperties;
+import com.github.sibdevtools.content.embedded.conf.ContentServiceEmbeddedCodecProperties;
+import com.github.sibdevtools.content.embedded.dto.MutationResult;
+import com.github.sibdevtools.content.embedded.dto.MutationStatus;
 import com.github.sibdevtools.content.embedded.entity.AttributeEntity;
 import com.github.sibdevtools.content.embedded.entity.ContentEntity;
+import com.github.sibdevtools.content.embedded.event.ContentGroupChangedEvent;
+import com.github.sibdevtools.content.embedded.event.SystemChangedEvent;
 import com.github.sibdevtools.content.embedded.exception.NotFoundException;
+import com.github.sibdevtools.content.embedded.exception.NotSupportedException;
 import com.github.sibdevtools.content.embedded.repository.AttributeRepository;
 import com.github.sibdevtools.content.embedded.repository.ContentGroupRepository;
 import com.github.sibdevtools.content.embedded.repository.ContentRepository;
+import com.github.sibdevtools.content.embedded.repository.InsertIfNotExistsRepository;
 import com.github.sibdevtools.content.embedded.repository.SystemRepository;
+import com.github.sibdevtools.content.embedded.rq.ImportContentRq;
+import com.github.sibdevtools.content.embedded.rq.MutateContentRq;
+import com.github.sibdevtools.content.embedded.rs.ImportContentRs;
+import com.github.sibdevtools.content.embedded.rs.MutateContentRs;
 import com.github.sibdevtools.content.mutable.api.rq.*;
 import com.github.sibdevtools.content.mutable.api.service.MutableContentService;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * @author sibmaks
@@ -33,79 +59,200 @@ public class MutableContentServiceEmbedded implements MutableContentService {
     private final ContentRepository contentRepository;
     private final ContentGroupRepository contentGroupRepository;
     private final SystemRepository systemRepository;
-    private final ContentCodec codec;
+    private final InsertIfNotExistsRepository insertIfNotExistsRepository;
+    private final ContentCodecRegistry codecRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final ContentServiceEmbeddedBatchProperties batchProperties;
+    private final ContentServiceEmbeddedCodecProperties codecProperties;
+    private final AttributeCodeDictionary attributeCodeDictionary;
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void createSystem(CreateSystemRq rq) {
-        systemRepository.saveIfNotExists(rq.systemCode());
+        doCreateSystem(rq);
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void deleteSystem(DeleteSystemRq rq) {
-        systemRepository.deleteByCode(
-                rq.systemCode()
-        );
+        doDeleteSystem(rq, newResolver());
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void createContentGroup(CreateContentGroupRq rq) {
-        var systemCode = rq.systemCode();
-        var systemEntity = systemRepository.findByCode(systemCode)
-                .orElseThrow(() -> new NotFoundException("System not found"));
-
-        contentGroupRepository.saveIfNotExists(
-                systemEntity.getId(),
-                rq.type(),
-                rq.code()
-        );
+        doCreateContentGroup(rq, newResolver());
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void deleteContentGroup(DeleteContentGroupRq rq) {
-        contentGroupRepository.deleteBySystem_CodeAndTypeAndCode(
-                rq.systemCode(),
-                rq.type(),
-                rq.groupCode()
-        );
+        doDeleteContentGroup(rq, newResolver());
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public <T> void createContent(CreateContentRq<T> rq) {
-        var optionalContentEntity = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCodeAndLock(
-                rq.systemCode(),
+        doCreateContent(rq, newResolver());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public <T> void updateContent(UpdateContentRq<T> rq) {
+        doUpdateContent(rq, newResolver());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateContentAttributes(UpdateContentAttributesRq rq) {
+        doUpdateContentAttributes(rq, newResolver());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void deleteContent(DeleteContentRq rq) {
+        doDeleteContent(rq, newResolver());
+    }
+
+    /**
+     * Apply mutation operations in passed order.
+     * Operations are applied in chunks, each chunk in its own transaction.
+     * Systems and content groups are resolved once per batch.
+     * If any operation fails its chunk is rolled back and the rest of operations are skipped.
+     *
+     * @param rq batch mutation request
+     * @return results of each operation
+     */
+    public MutateContentRs mutate(@Nonnull MutateContentRq rq) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var chunkSize = Math.max(1, batchProperties.getChunkSize());
+        var operations = rq.operations();
+        var resolver = newResolver();
+        var results = new ArrayList<MutationResult>(operations.size());
+
+        for (int from = 0; from < operations.size(); from += chunkSize) {
+            var chunk = operations.subList(from, Math.min(from + chunkSize, operations.size()));
+            var applied = new int[1];
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (var operation : chunk) {
+                        apply(operation, resolver);
+                        applied[0]++;
+                    }
+                });
+            } catch (RuntimeException e) {
+                resolver.clear();
+                var commitFailed = applied[0] == chunk.size();
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (commitFailed) {
+                        results.add(new MutationResult(MutationStatus.FAILED, e.getMessage()));
+                    } else if (i < applied[0]) {
+                        results.add(new MutationResult(MutationStatus.ROLLED_BACK, null));
+                    } else if (i == applied[0]) {
+                        results.add(new MutationResult(MutationStatus.FAILED, e.getMessage()));
+                    } else {
+                        results.add(new MutationResult(MutationStatus.SKIPPED, null));
+                    }
+                }
+                for (int i = from + chunk.size(); i < operations.size(); i++) {
+                    results.add(new MutationResult(MutationStatus.SKIPPED, null));
+                }
+                break;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(new MutationResult(MutationStatus.APPLIED, null));
+            }
+        }
+        return new MutateContentRs(results);
+    }
+
+    private void apply(Object operation, MutationResolver resolver) {
+        switch (operation) {
+            case CreateSystemRq it -> doCreateSystem(it);
+            case DeleteSystemRq it -> doDeleteSystem(it, resolver);
+            case CreateContentGroupRq it -> doCreateContentGroup(it, resolver);
+            case DeleteContentGroupRq it -> doDeleteContentGroup(it, resolver);
+            case CreateContentRq<?> it -> doCreateContent(it, resolver);
+            case UpdateContentRq<?> it -> doUpdateContent(it, resolver);
+            case UpdateContentAttributesRq it -> doUpdateContentAttributes(it, resolver);
+            case DeleteContentRq it -> doDeleteContent(it, resolver);
+            case null, default -> throw new NotSupportedException("Unknown operation type");
+        }
+    }
+
+    private void doCreateSystem(CreateSystemRq rq) {
+        insertIfNotExistsRepository.insertSystem(rq.systemCode());
+    }
+
+    private void doDeleteSystem(DeleteSystemRq rq, MutationResolver resolver) {
+        var optionalSystemId = resolver.findSystemId(rq.systemCode());
+        if (optionalSystemId.isEmpty()) {
+            return;
+        }
+        var systemId = optionalSystemId.get();
+
+        attributeRepository.deleteAllBySystemId(systemId);
+        contentRepository.deleteAllBySystemId(systemId);
+        contentGroupRepository.deleteAllBySystemId(systemId);
+        systemRepository.deleteBySystemId(systemId);
+        resolver.evictSystem(rq.systemCode());
+        eventPublisher.publishEvent(new SystemChangedEvent(rq.systemCode()));
+    }
+
+    private void doCreateContentGroup(CreateContentGroupRq rq, MutationResolver resolver) {
+        var systemId = resolver.findSystemId(rq.systemCode())
+                .orElseThrow(() -> new NotFoundException("System not found"));
+
+        insertIfNotExistsRepository.insertContentGroup(
+                systemId,
                 rq.type(),
-                rq.groupCode(),
                 rq.code()
         );
+    }
 
-        if (optionalContentEntity.isPresent()) {
+    private void doDeleteContentGroup(DeleteContentGroupRq rq, MutationResolver resolver) {
+        var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+        var optionalGroupId = resolver.findGroupId(key);
+        if (optionalGroupId.isEmpty()) {
             return;
         }
+        var groupId = optionalGroupId.get();
 
-        var contentGroup = contentGroupRepository.findBySystem_CodeAndTypeAndCode(
-                rq.systemCode(),
-                rq.type(),
-                rq.groupCode()
-        ).orElseThrow(() -> new NotFoundException("Content group not found"));
-
-        var encoded = codec.encode(rq.content());
-
-        var contentEntity = contentRepository.saveAndFlush(
-                ContentEntity.builder()
-                        .code(rq.code())
-                        .content(encoded)
-                        .group(contentGroup)
-                        .createdAt(ZonedDateTime.now())
-                        .modifiedAt(ZonedDateTime.now())
-                        .build()
+        attributeRepository.deleteAllByContentGroupId(groupId);
+        contentRepository.deleteAllByContentGroupId(groupId);
+        contentGroupRepository.deleteByGroupId(groupId);
+        resolver.evictGroup(key);
+        eventPublisher.publishEvent(new ContentGroupChangedEvent(rq.systemCode(), rq.type(), rq.groupCode()));
+    }
+
+    private <T> void doCreateContent(CreateContentRq<T> rq, MutationResolver resolver) {
+        var groupId = resolver.findGroupId(ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode()))
+                .orElseThrow(() -> new NotFoundException("Content group not found"));
+
+        var encoded = encode(rq.content());
+
+        var inserted = insertIfNotExistsRepository.insertContent(
+                groupId,
+                rq.code(),
+                encoded.content(),
+                encoded.contentBytes(),
+                encoded.codec()
         );
-        var contentEntityId = contentEntity.getId();
+        if (inserted == 0) {
+            return;
+        }
+        var contentGroup = contentGroupRepository.getReferenceById(groupId);
+        var contentEntityId = contentRepository.findByGroupAndCode(contentGroup, rq.code())
+                .map(ContentEntity::getId)
+                .orElseThrow(() -> new NotFoundException("Content not found"));
 
+        attributeCodeDictionary.register(rq.attributes().keySet());
+        enableJdbcBatching();
+        var now = ZonedDateTime.now();
         var attributeEntities = rq.attributes()
                 .entrySet()
                 .stream()
@@ -113,94 +260,55 @@ public class MutableContentServiceEmbedded implements MutableContentService {
                         .contentId(contentEntityId)
                         .code(it.getKey())
                         .value(it.getValue())
-                        .createdAt(ZonedDateTime.now())
-                        .modifiedAt(ZonedDateTime.now())
+                        .createdAt(now)
+                        .modifiedAt(now)
                         .build())
                 .toList();
 
         attributeRepository.saveAll(attributeEntities);
+        eventPublisher.publishEvent(new ContentGroupChangedEvent(rq.systemCode(), rq.type(), rq.groupCode()));
     }
 
-    @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public <T> void updateContent(UpdateContentRq<T> rq) {
-        var contentEntity = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCodeAndLock(
-                rq.systemCode(),
-                rq.type(),
-                rq.groupCode(),
-                rq.code()
-        ).orElseThrow(() -> new NotFoundException("Content not found"));
+    private <T> void doUpdateContent(UpdateContentRq<T> rq, MutationResolver resolver) {
+        var contentEntity = findContent(rq.systemCode(), rq.type(), rq.groupCode(), rq.code(), resolver)
+                .orElseThrow(() -> new NotFoundException("Content not found"));
 
-        var content = rq.content();
-        var encodedContent = codec.encode(content);
+        var encoded = encode(rq.content());
 
-        if (Objects.equals(encodedContent, contentEntity.getContent())) {
+        if (encoded.isStoredIn(contentEntity)) {
             return;
         }
-        contentEntity.setContent(encodedContent);
+        encoded.applyTo(contentEntity);
         contentEntity.setModifiedAt(ZonedDateTime.now());
         contentRepository.save(contentEntity);
+        eventPublisher.publishEvent(new ContentGroupChangedEvent(rq.systemCode(), rq.type(), rq.groupCode()));
     }
 
-    @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateContentAttributes(UpdateContentAttributesRq rq) {
-        var contentEntity = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCodeAndLock(
-                rq.systemCode(),
-                rq.type(),
-                rq.groupCode(),
-                rq.code()
-        ).orElseThrow(() -> new NotFoundException("Content not found"));
-
-        contentEntity.setModifiedAt(ZonedDateTime.now());
-        contentRepository.save(contentEntity);
-
-        var toRemove = new ArrayList<Long>();
-        var toSave = new ArrayList<AttributeEntity>();
+    private void doUpdateContentAttributes(UpdateContentAttributesRq rq, MutationResolver resolver) {
+        var contentEntity = findContent(rq.systemCode(), rq.type(), rq.groupCode(), rq.code(), resolver)
+                .orElseThrow(() -> new NotFoundException("Content not found"));
 
+        var now = ZonedDateTime.now();
         var contentId = contentEntity.getId();
         var attributeEntities = attributeRepository.findAllByContentId(contentId);
-        var attributes = new HashMap<>(rq.attributes());
-        for (var attributeEntity : attributeEntities) {
-            var attributeCode = attributeEntity.getCode();
-
-            if (attributes.containsKey(attributeCode)) {
-                var value = attributeEntity.getValue();
-                var newValue = attributes.remove(attributeCode);
-                if (!Objects.equals(value, newValue)) {
-                    attributeEntity.setValue(newValue);
-                    attributeEntity.setModifiedAt(ZonedDateTime.now());
-                    toSave.add(attributeEntity);
-                }
-            } else {
-                toRemove.add(attributeEntity.getId());
-            }
+        var diff = AttributesDiff.of(contentId, attributeEntities, rq.attributes(), now);
+        if (diff.isEmpty()) {
+            return;
         }
 
-        for (var attributeEntry : attributes.entrySet()) {
-            var attributeEntity = AttributeEntity.builder()
-                    .contentId(contentId)
-                    .code(attributeEntry.getKey())
-                    .value(attributeEntry.getValue())
-                    .createdAt(ZonedDateTime.now())
-                    .modifiedAt(ZonedDateTime.now())
-                    .build();
-            toSave.add(attributeEntity);
+        attributeCodeDictionary.register(rq.attributes().keySet());
+        enableJdbcBatching();
+        contentEntity.setModifiedAt(now);
+        // bulk delete flushes content and changed attributes as batched updates before itself
+        if (!diff.toRemove().isEmpty()) {
+            attributeRepository.deleteAllByIdInBatch(diff.toRemove());
         }
-
-        attributeRepository.deleteAllById(toRemove);
-        attributeRepository.saveAll(toSave);
+        attributeRepository.saveAll(diff.toSave());
+        eventPublisher.publishEvent(new ContentGroupChangedEvent(rq.systemCode(), rq.type(), rq.groupCode()));
     }
 
-    @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void deleteContent(DeleteContentRq rq) {
-        var optionalContentEntity = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
-                rq.systemCode(),
-                rq.type(),
-                rq.groupCode(),
-                rq.code()
-        );
+    private void doDeleteContent(DeleteContentRq rq, MutationResolver resolver) {
+        var optionalContentEntity = findContent(rq.systemCode(), rq.type(), rq.groupCode(), rq.code(), resolver);
         if (optionalContentEntity.isEmpty()) {
             return;
         }
@@ -208,5 +316,185 @@ public class MutableContentServiceEmbedded implements MutableContentService {
 
         attributeRepository.deleteAllByContentId(contentEntity.getId());
         contentRepository.deleteById(contentEntity.getId());
+        eventPublisher.publishEvent(new ContentGroupChangedEvent(rq.systemCode(), rq.type(), rq.groupCode()));
+    }
+
+    private Optional<ContentEntity> findContent(
+            String systemCode,
+            String type,
+            String groupCode,
+            String code,
+            MutationResolver resolver
+    ) {
+        return resolver.findGroupId(ContentGroupKey.of(systemCode, type, groupCode))
+                .map(contentGroupRepository::getReferenceById)
+                .flatMap(it -> contentRepository.findForUpdateByGroupAndCode(it, code));
+    }
+
+    private MutationResolver newResolver() {
+        return new MutationResolver(systemRepository, contentGroupRepository);
+    }
+
+    /**
+     * Bulk create or upsert contents.
+     * Contents are written in chunks, each chunk in its own transaction with JDBC batch inserts.
+     * Already committed chunks are kept if any of the next chunks fails.
+     * Within a chunk the first duplicate of the content code wins on create and the last one on upsert.
+     *
+     * @param rq import request
+     * @return import totals
+     * @throws NotFoundException if content group of any content not found
+     */
+    public ImportContentRs importContent(@Nonnull ImportContentRq rq) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var chunkSize = Math.max(1, batchProperties.getChunkSize());
+        var resolver = newResolver();
+        var progressListener = rq.progressListener();
+        var total = new ImportContentRs(0, 0, 0, 0);
+
+        var chunk = new ArrayList<CreateContentRq<?>>(chunkSize);
+        var iterator = rq.contents().iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() < chunkSize && iterator.hasNext()) {
+                continue;
+            }
+            var chunkRs = transactionTemplate.execute(status -> importChunk(chunk, rq.upsert(), resolver));
+            total = total.plus(Objects.requireNonNull(chunkRs));
+            chunk.clear();
+            if (progressListener != null) {
+                progressListener.accept(total);
+            }
+        }
+        return total;
+    }
+
+    private ImportContentRs importChunk(
+            List<CreateContentRq<?>> chunk,
+            boolean upsert,
+            MutationResolver resolver
+    ) {
+        enableJdbcBatching();
+
+        var now = ZonedDateTime.now();
+        var byGroup = new LinkedHashMap<ContentGroupKey, Map<String, CreateContentRq<?>>>();
+        long skipped = 0;
+        for (var rq : chunk) {
+            var key = ContentGroupKey.of(rq.systemCode(), rq.type(), rq.groupCode());
+            var groupContents = byGroup.computeIfAbsent(key, it -> new LinkedHashMap<>());
+            var code = ContentGroupKey.normalize(rq.code());
+            if (groupContents.containsKey(code)) {
+                skipped++;
+                if (!upsert) {
+                    continue;
+                }
+            }
+            groupContents.put(code, rq);
+        }
+
+        attributeCodeDictionary.register(
+                chunk.stream()
+                        .flatMap(it -> it.attributes().keySet().stream())
+                        .collect(Collectors.toSet())
+        );
+
+        long created = 0;
+        long updated = 0;
+        var attributesToRemove = new ArrayList<Long>();
+        var attributesToSave = new ArrayList<AttributeEntity>();
+        for (var entry : byGroup.entrySet()) {
+            var key = entry.getKey();
+            var groupContents = entry.getValue();
+            var groupId = resolver.findGroupId(key)
+                    .orElseThrow(() -> new NotFoundException("Content group not found"));
+            var contentGroup = contentGroupRepository.getReferenceById(groupId);
+
+            var existed = new HashMap<String, ContentEntity>();
+            for (var contentEntity : contentRepository.findAllByGroupAndCodeIn(contentGroup, groupContents.keySet())) {
+                existed.put(ContentGroupKey.normalize(contentEntity.getCode()), contentEntity);
+            }
+            var existedAttributes = upsert && !existed.isEmpty() ?
+                    attributeRepository.findAllByContentIdIn(existed.values().stream().map(ContentEntity::getId).toList())
+                            .stream()
+                            .collect(Collectors.groupingBy(AttributeEntity::getContentId)) :
+                    Map.<Long, List<AttributeEntity>>of();
+
+            var changed = false;
+            for (var contentEntry : groupContents.entrySet()) {
+                var rq = contentEntry.getValue();
+                var encoded = encode(rq.content());
+                var contentEntity = existed.get(contentEntry.getKey());
+                if (contentEntity == null) {
+                    contentEntity = ContentEntity.builder()
+                            .code(rq.code())
+                            .codec(encoded.codec())
+                            .content(encoded.content())
+                            .contentBytes(encoded.contentBytes())
+                            .group(contentGroup)
+                            .createdAt(now)
+                            .modifiedAt(now)
+                            .build();
+                    entityManager.persist(contentEntity);
+                    var diff = AttributesDiff.of(contentEntity.getId(), List.of(), rq.attributes(), now);
+                    attributesToSave.addAll(diff.toSave());
+                    created++;
+                    changed = true;
+                    continue;
+                }
+                if (!upsert) {
+                    skipped++;
+                    continue;
+                }
+                var contentId = contentEntity.getId();
+                var diff = AttributesDiff.of(
+                        contentId,
+                        existedAttributes.getOrDefault(contentId, List.of()),
+                        rq.attributes(),
+                        now
+                );
+                var contentChanged = !encoded.isStoredIn(contentEntity);
+                if (!contentChanged && diff.isEmpty()) {
+                    skipped++;
+                    continue;
+                }
+                if (contentChanged) {
+                    encoded.applyTo(contentEntity);
+                }
+                contentEntity.setModifiedAt(now);
+                attributesToRemove.addAll(diff.toRemove());
+                attributesToSave.addAll(diff.toSave());
+                updated++;
+                changed = true;
+            }
+            if (changed) {
+                eventPublisher.publishEvent(new ContentGroupChangedEvent(key.systemCode(), key.type(), key.groupCode()));
+            }
+        }
+
+        // contents are inserted before attributes, so each entity type is written by its own JDBC batches
+        entityManager.flush();
+        if (!attributesToRemove.isEmpty()) {
+            attributeRepository.deleteAllByIdInBatch(attributesToRemove);
+        }
+        for (var attributeEntity : attributesToSave) {
+            if (attributeEntity.getId() == 0) {
+                entityManager.persist(attributeEntity);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return new ImportContentRs(chunk.size(), created, updated, skipped);
+    }
+
+    private EncodedContent encode(Object content) {
+        return EncodedContent.of(codecRegistry.getDefault(), content, codecProperties.getStorage());
+    }
+
+    private void enableJdbcBatching() {
+        entityManager.unwrap(Session.class)
+                .setJdbcBatchSize(batchProperties.getJdbcBatchSize());
     }
 }
@@ -0,0 +1,95 @@
+package com.github.sibdevtools.content.embedded.service;
+
+import com.github.sibdevtools.content.embedded.cache.ContentGroupKey;
+import com.github.sibdevtools.content.embedded.entity.ContentGroupEntity;
+import com.github.sibdevtools.content.embedded.entity.SystemEntity;
+import com.github.sibdevtools.content.embedded.repository.ContentGroupRepository;
+import com.github.sibdevtools.content.embedded.repository.SystemRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolver of system and content group identifiers, shared between mutations of the same batch.
+ * Only found identifiers are remembered, so systems and groups created later in the batch are resolved as well.
+ * Not thread-safe.
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@RequiredArgsConstructor
+class MutationResolver {
+    private final SystemRepository systemRepository;
+    private final ContentGroupRepository contentGroupRepository;
+    private final Map<String, Long> systemIds = new HashMap<>();
+    private final Map<ContentGroupKey, Long> groupIds = new HashMap<>();
+
+    /**
+     * Find system identifier by code
+     *
+     * @param systemCode system code
+     * @return optional with a found system identifier or empty otherwise
+     */
+    Optional<Long> findSystemId(String systemCode) {
+        var code = ContentGroupKey.normalize(systemCode);
+        var systemId = systemIds.get(code);
+        if (systemId != null) {
+            return Optional.of(systemId);
+        }
+        var found = systemRepository.findByCode(systemCode)
+                .map(SystemEntity::getId);
+        found.ifPresent(it -> systemIds.put(code, it));
+        return found;
+    }
+
+    /**
+     * Find content group identifier by full identifier
+     *
+     * @param key content group key
+     * @return optional with a found group identifier or empty otherwise
+     */
+    Optional<Long> findGroupId(ContentGroupKey key) {
+        var groupId = groupIds.get(key);
+        if (groupId != null) {
+            return Optional.of(groupId);
+        }
+        var found = contentGroupRepository.findBySystem_CodeAndTypeAndCode(
+                        key.systemCode(),
+                        key.type(),
+                        key.groupCode()
+                )
+                .map(ContentGroupEntity::getId);
+        found.ifPresent(it -> groupIds.put(key, it));
+        return found;
+    }
+
+    /**
+     * Forget system and all of its groups
+     *
+     * @param systemCode system code
+     */
+    void evictSystem(String systemCode) {
+        var code = ContentGroupKey.normalize(systemCode);
+        systemIds.remove(code);
+        groupIds.keySet().removeIf(it -> it.systemCode().equals(code));
+    }
+
+    /**
+     * Forget content group
+     *
+     * @param key content group key
+     */
+    void evictGroup(ContentGroupKey key) {
+        groupIds.remove(key);
+    }
+
+    /**
+     * Forget all resolved identifiers, e.g. after rollback
+     */
+    void clear() {
+        systemIds.clear();
+        groupIds.clear();
+    }
+}
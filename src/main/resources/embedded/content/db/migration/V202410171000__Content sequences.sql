@@ -0,0 +1,16 @@
+SET SCHEMA content_service;
+
+-- Sequences start past the current maximum, so identifiers pre-allocated by pooled optimizer do not collide
+CREATE SEQUENCE IF NOT EXISTS content_seq
+    START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM content)
+    INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS content_attribute_seq
+    START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM content_attribute)
+    INCREMENT BY 50;
+
+ALTER TABLE content ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE content ALTER COLUMN id SET DEFAULT NEXT VALUE FOR content_seq;
+
+ALTER TABLE content_attribute ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE content_attribute ALTER COLUMN id SET DEFAULT NEXT VALUE FOR content_attribute_seq;
@@ -0,0 +1,16 @@
+SET SCHEMA content_service;
+
+-- Sequences start past the current maximum, so identifiers pre-allocated by pooled optimizer do not collide
+CREATE SEQUENCE IF NOT EXISTS system_seq
+    START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM system)
+    INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS content_group_seq
+    START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM content_group)
+    INCREMENT BY 50;
+
+ALTER TABLE system ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE system ALTER COLUMN id SET DEFAULT NEXT VALUE FOR system_seq;
+
+ALTER TABLE content_group ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE content_group ALTER COLUMN id SET DEFAULT NEXT VALUE FOR content_group_seq;
@@ -0,0 +1,16 @@
+SET SCHEMA content_service;
+
+-- keep only the latest attribute with the same code of the content before uniqueness constraint creation
+DELETE
+FROM content_attribute a
+WHERE EXISTS (SELECT 1
+              FROM content_attribute b
+              WHERE b.content_id = a.content_id
+                AND b.code = a.code
+                AND b.id > a.id);
+
+-- lookup of content attributes, leading column serves queries by content_id alone
+CREATE UNIQUE INDEX IF NOT EXISTS content_attribute_content_code_idx ON content_attribute (content_id, code);
+
+-- attribute condition filtering, covers content_id to avoid table access
+CREATE INDEX IF NOT EXISTS content_attribute_code_value_idx ON content_attribute (code, attr_value, content_id);
@@ -0,0 +1,29 @@
+SET SCHEMA content_service;
+
+CREATE TABLE IF NOT EXISTS attribute_code
+(
+    id   integer                NOT NULL AUTO_INCREMENT,
+    code character varying(512) NOT NULL UNIQUE,
+    CONSTRAINT attribute_code_pk PRIMARY KEY (id)
+);
+
+INSERT INTO attribute_code (code)
+SELECT DISTINCT code
+FROM content_attribute;
+
+ALTER TABLE content_attribute ADD COLUMN code_id integer;
+
+UPDATE content_attribute a
+SET code_id = (SELECT c.id FROM attribute_code c WHERE c.code = a.code);
+
+ALTER TABLE content_attribute ALTER COLUMN code_id SET NOT NULL;
+ALTER TABLE content_attribute ADD CONSTRAINT content_attribute_code_fk FOREIGN KEY (code_id) REFERENCES attribute_code (id);
+
+DROP INDEX IF EXISTS content_attribute_content_code_idx;
+DROP INDEX IF EXISTS content_attribute_code_value_idx;
+
+ALTER TABLE content_attribute DROP COLUMN code;
+
+CREATE UNIQUE INDEX IF NOT EXISTS content_attribute_content_code_idx ON content_attribute (content_id, code_id);
+
+CREATE INDEX IF NOT EXISTS content_attribute_code_value_idx ON content_attribute (code_id, attr_value, content_id);
@@ -0,0 +1,4 @@
+SET SCHEMA content_service;
+
+-- existing contents are encoded by JSON codec
+ALTER TABLE content ADD COLUMN codec VARCHAR(32) NOT NULL DEFAULT 'JSON';
@@ -0,0 +1,5 @@
+SET SCHEMA content_service;
+
+-- contents are kept either in text or in binary column, depending on configured storage
+ALTER TABLE content ADD COLUMN content_bytes BLOB;
+ALTER TABLE content ALTER COLUMN content SET NULL;
@@ -0,0 +1,100 @@
+package com.github.sibdevtools.content.embedded;
+
+import com.github.sibdevtools.content.api.rq.GetContentRq;
+import com.github.sibdevtools.content.api.service.ContentService;
+import com.github.sibdevtools.content.embedded.codec.BinaryContentCodec;
+import com.github.sibdevtools.content.embedded.codec.JsonContentCodec;
+import com.github.sibdevtools.content.embedded.entity.ContentEntity;
+import com.github.sibdevtools.content.embedded.repository.ContentRepository;
+import com.github.sibdevtools.content.mutable.api.rq.*;
+import com.github.sibdevtools.content.mutable.api.service.MutableContentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@ActiveProfiles("startup-test")
+@SpringBootTest(properties = "service.content.embedded.codec.default-codec=SMILE")
+class BinaryCodecContentServiceIntegrationTest {
+    @Autowired
+    private MutableContentService mutableContentService;
+    @Autowired
+    private ContentService contentService;
+    @Autowired
+    private ContentRepository contentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testGetContentEncodedByDifferentCodecs() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var binaryCode = UUID.randomUUID().toString();
+        var jsonCode = UUID.randomUUID().toString();
+        for (var code : new String[]{binaryCode, jsonCode}) {
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(code)
+                            .content(code)
+                            .attributes(Map.of())
+                            .build()
+            );
+        }
+
+        var binaryContent = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                systemCode, groupType, groupCode, binaryCode
+        ).orElseThrow();
+        assertEquals(BinaryContentCodec.SMILE, binaryContent.getCodec());
+
+        // emulate content stored before the codec change
+        var jsonContentId = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                        systemCode, groupType, groupCode, jsonCode
+                )
+                .map(ContentEntity::getId)
+                .orElseThrow();
+        jdbcTemplate.update(
+                "UPDATE content_service.content SET content = ?, codec = ? WHERE id = ?",
+                "\"" + jsonCode + "\"",
+                JsonContentCodec.ID,
+                jsonContentId
+        );
+
+        var rq = GetContentRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .contentType(String.class)
+                .build();
+
+        var foundContent = contentService.getContent(rq).getBody();
+        assertEquals(2, foundContent.size());
+        assertEquals(binaryCode, foundContent.get(binaryCode).getContent());
+        assertEquals(jsonCode, foundContent.get(jsonCode).getContent());
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.sibdevtools.content.embedded;
+
+import com.github.sibdevtools.content.api.condition.EqualsCondition;
+import com.github.sibdevtools.content.api.rq.GetContentRq;
+import com.github.sibdevtools.content.api.service.ContentService;
+import com.github.sibdevtools.content.embedded.exception.NotFoundException;
+import com.github.sibdevtools.content.embedded.rq.GetContentByCodeRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentByCodesRq;
+import com.github.sibdevtools.content.embedded.service.ContentServiceEmbedded;
+import com.github.sibdevtools.content.mutable.api.rq.*;
+import com.github.sibdevtools.content.mutable.api.service.MutableContentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@ActiveProfiles("startup-test")
+@SpringBootTest(properties = "service.content.embedded.cache.enabled=true")
+class CachedContentServiceIntegrationTest {
+    @Autowired
+    private MutableContentService mutableContentService;
+    @Autowired
+    private ContentService contentService;
+    @Autowired
+    private ContentServiceEmbedded contentServiceEmbedded;
+
+    @Test
+    void testGetContentWhenContentChanged() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var rq = GetContentRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .contentType(String.class)
+                .build();
+
+        var foundContent = contentService.getContent(rq).getBody();
+        assertNotNull(foundContent);
+        assertTrue(foundContent.isEmpty());
+
+        var contentCode = UUID.randomUUID().toString();
+        var attributeKey = UUID.randomUUID().toString();
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content("old")
+                        .attributes(Map.of(attributeKey, "old"))
+                        .build()
+        );
+
+        foundContent = contentService.getContent(rq).getBody();
+        assertEquals(1, foundContent.size());
+        assertEquals("old", foundContent.get(contentCode).getContent());
+
+        mutableContentService.updateContent(
+                UpdateContentRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content("new")
+                        .build()
+        );
+        mutableContentService.updateContentAttributes(
+                UpdateContentAttributesRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .attributes(Map.of(attributeKey, "new"))
+                        .build()
+        );
+
+        var conditionalRq = GetContentRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .contentType(String.class)
+                .conditions(List.of(
+                        new EqualsCondition(attributeKey, "new")
+                ))
+                .build();
+
+        foundContent = contentService.getContent(conditionalRq).getBody();
+        assertEquals(1, foundContent.size());
+        assertEquals("new", foundContent.get(contentCode).getContent());
+
+        mutableContentService.deleteContent(
+                DeleteContentRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .build()
+        );
+
+        foundContent = contentService.getContent(rq).getBody();
+        assertTrue(foundContent.isEmpty());
+    }
+
+    @Test
+    void testGetContentByCodesWhenGroupNotFound() {
+        var systemCode = UUID.randomUUID().toString();
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        var code = UUID.randomUUID().toString();
+
+        var byCodeRq = GetContentByCodeRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .code(code)
+                .contentType(String.class)
+                .build();
+        var byCodeException = assertThrows(
+                NotFoundException.class,
+                () -> contentServiceEmbedded.getContentByCode(byCodeRq)
+        );
+        assertEquals("Content group not found", byCodeException.getMessage());
+
+        var byCodesRq = GetContentByCodesRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .codes(List.of(code))
+                .contentType(String.class)
+                .build();
+        var byCodesException = assertThrows(
+                NotFoundException.class,
+                () -> contentServiceEmbedded.getContentByCodes(byCodesRq)
+        );
+        assertEquals("Content group not found", byCodesException.getMessage());
+    }
+}
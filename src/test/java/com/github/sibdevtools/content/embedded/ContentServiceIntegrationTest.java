@@ -4,17 +4,31 @@ import com.github.sibdevtools.content.api.condition.EqualsCondition;
 import com.github.sibdevtools.content.api.condition.IsNullCondition;
 import com.github.sibdevtools.content.api.condition.NotEqualsCondition;
 import com.github.sibdevtools.content.api.condition.NotNullCondition;
+import com.github.sibdevtools.content.api.dto.ContentHolder;
 import com.github.sibdevtools.content.api.rq.GetContentRq;
 import com.github.sibdevtools.content.api.service.ContentService;
+import com.github.sibdevtools.content.embedded.dto.LazyContentHolder;
+import com.github.sibdevtools.content.embedded.exception.InvalidRequestException;
+import com.github.sibdevtools.content.embedded.exception.NotFoundException;
+import com.github.sibdevtools.content.embedded.rq.CountContentRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentByCodeRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentByCodesRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentMetadataRq;
+import com.github.sibdevtools.content.embedded.rq.GetContentPageRq;
+import com.github.sibdevtools.content.embedded.service.ContentServiceEmbedded;
 import com.github.sibdevtools.content.mutable.api.rq.CreateContentGroupRq;
 import com.github.sibdevtools.content.mutable.api.rq.CreateContentRq;
 import com.github.sibdevtools.content.mutable.api.rq.CreateSystemRq;
 import com.github.sibdevtools.content.mutable.api.service.MutableContentService;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -32,6 +46,8 @@ class ContentServiceIntegrationTest {
     private MutableContentService mutableContentService;
     @Autowired
     private ContentService contentService;
+    @Autowired
+    private ContentServiceEmbedded contentServiceEmbedded;
 
     @Test
     void testCreateContentThenGetWithoutConditions() {
@@ -570,4 +586,736 @@ class ContentServiceIntegrationTest {
 
         assertTrue(foundContent.isEmpty());
     }
+
+    @Test
+    void testCreateManyContentsThenGetWithoutConditions() {
+
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var expectedAttributes = new HashMap<String, Map<String, String>>();
+        for (int i = 0; i < 8; i++) {
+            var contentCode = UUID.randomUUID().toString();
+            var attributes = Map.of(
+                    UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                    UUID.randomUUID().toString(), UUID.randomUUID().toString()
+            );
+            expectedAttributes.put(contentCode, attributes);
+
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(contentCode)
+                            .content(contentCode)
+                            .attributes(attributes)
+                            .build()
+            );
+        }
+
+        var rq = GetContentRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .contentType(String.class)
+                .build();
+
+        var foundContentRs = contentService.getContent(rq);
+        var foundContent = foundContentRs.getBody();
+
+        assertNotNull(foundContent);
+        assertEquals(expectedAttributes.size(), foundContent.size());
+
+        for (var entry : expectedAttributes.entrySet()) {
+            var contentHolder = foundContent.get(entry.getKey());
+            assertNotNull(contentHolder);
+
+            assertEquals(entry.getKey(), contentHolder.getContent());
+            assertEquals(entry.getValue(), contentHolder.getAttributes());
+        }
+    }
+
+    @Test
+    void testCreateManyContentsThenGetWithConditions() {
+
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var langKey = UUID.randomUUID().toString();
+        var draftKey = UUID.randomUUID().toString();
+
+        var matchedCode = UUID.randomUUID().toString();
+        var contents = Map.of(
+                matchedCode, Map.of(langKey, "eng"),
+                UUID.randomUUID().toString(), Map.of(langKey, "rus"),
+                UUID.randomUUID().toString(), Map.of(langKey, "eng", draftKey, "true"),
+                UUID.randomUUID().toString(), Map.<String, String>of()
+        );
+        for (var entry : contents.entrySet()) {
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(entry.getKey())
+                            .content(entry.getKey())
+                            .attributes(entry.getValue())
+                            .build()
+            );
+        }
+
+        var rq = GetContentRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .contentType(String.class)
+                .conditions(List.of(
+                        new EqualsCondition(langKey, "eng"),
+                        new NotEqualsCondition(langKey, "rus"),
+                        new IsNullCondition(draftKey),
+                        new NotNullCondition(langKey)
+                ))
+                .build();
+
+        var foundContentRs = contentService.getContent(rq);
+        var foundContent = foundContentRs.getBody();
+
+        assertNotNull(foundContent);
+        assertEquals(1, foundContent.size());
+
+        var contentHolder = foundContent.get(matchedCode);
+        assertNotNull(contentHolder);
+
+        assertEquals(matchedCode, contentHolder.getContent());
+        assertEquals(contents.get(matchedCode), contentHolder.getAttributes());
+    }
+
+    @Test
+    void testGetContentsOfManyGroups() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var attributeKey = UUID.randomUUID().toString();
+        var rqs = new ArrayList<GetContentRq<?>>();
+        var contentCodes = new ArrayList<String>();
+        for (int i = 0; i < 3; i++) {
+            var groupCode = UUID.randomUUID().toString();
+            mutableContentService.createContentGroup(
+                    CreateContentGroupRq.builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .code(groupCode)
+                            .build()
+            );
+
+            var contentCode = UUID.randomUUID().toString();
+            contentCodes.add(contentCode);
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(contentCode)
+                            .content(contentCode)
+                            .attributes(Map.of(attributeKey, "visible"))
+                            .build()
+            );
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(UUID.randomUUID().toString())
+                            .content(UUID.randomUUID().toString())
+                            .attributes(Map.of(attributeKey, "hidden"))
+                            .build()
+            );
+
+            rqs.add(GetContentRq.<String>builder()
+                    .systemCode(systemCode)
+                    .type(groupType)
+                    .groupCode(groupCode)
+                    .contentType(String.class)
+                    .conditions(List.of(
+                            new EqualsCondition(attributeKey, "visible")
+                    ))
+                    .build());
+        }
+
+        var foundContentRses = contentServiceEmbedded.getContents(rqs);
+        assertEquals(rqs.size(), foundContentRses.size());
+
+        for (int i = 0; i < rqs.size(); i++) {
+            var foundContent = foundContentRses.get(i).getBody();
+            assertNotNull(foundContent);
+            assertEquals(1, foundContent.size());
+
+            var contentCode = contentCodes.get(i);
+            var contentHolder = foundContent.get(contentCode);
+            assertNotNull(contentHolder);
+            assertEquals(contentCode, contentHolder.getContent());
+        }
+    }
+
+    @Test
+    void testGetContentsWhenGroupNotFound() {
+        var rq = GetContentRq.<String>builder()
+                .systemCode(UUID.randomUUID().toString())
+                .type(UUID.randomUUID().toString())
+                .groupCode(UUID.randomUUID().toString())
+                .contentType(String.class)
+                .build();
+        List<GetContentRq<?>> rqs = List.of(rq);
+
+        var notFoundException = assertThrows(
+                NotFoundException.class,
+                () -> contentServiceEmbedded.getContents(rqs)
+        );
+        assertEquals("Content group not found", notFoundException.getMessage());
+    }
+
+    @Test
+    void testStreamContentWithConditions() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var attributeKey = UUID.randomUUID().toString();
+        var expectedContents = new HashMap<String, Map<String, String>>();
+        for (int i = 0; i < 10; i++) {
+            var contentCode = UUID.randomUUID().toString();
+            var visible = i % 2 == 0;
+            var attributes = visible ?
+                    Map.of(attributeKey, "visible", UUID.randomUUID().toString(), UUID.randomUUID().toString()) :
+                    Map.<String, String>of();
+            if (visible) {
+                expectedContents.put(contentCode, attributes);
+            }
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(contentCode)
+                            .content(contentCode)
+                            .attributes(attributes)
+                            .build()
+            );
+        }
+
+        var rq = GetContentRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .contentType(String.class)
+                .conditions(List.of(
+                        new NotNullCondition(attributeKey)
+                ))
+                .build();
+
+        var foundContents = new HashMap<String, Map<String, String>>();
+        contentServiceEmbedded.streamContent(rq, it -> {
+            assertEquals(it.getCode(), it.getContent());
+            foundContents.put(it.getCode(), it.getAttributes());
+        });
+
+        assertEquals(expectedContents, foundContents);
+    }
+
+    @Test
+    void testStreamContentWhenGroupNotFoundAndConditionsContradict() {
+        var rq = GetContentRq.<String>builder()
+                .systemCode(UUID.randomUUID().toString())
+                .type(UUID.randomUUID().toString())
+                .groupCode(UUID.randomUUID().toString())
+                .contentType(String.class)
+                .conditions(List.of(
+                        new IsNullCondition("lang"),
+                        new NotNullCondition("lang")
+                ))
+                .build();
+
+        var notFoundException = assertThrows(
+                NotFoundException.class,
+                () -> contentServiceEmbedded.streamContent(rq, it -> fail("Content not expected"))
+        );
+        assertEquals("Content group not found", notFoundException.getMessage());
+    }
+
+    @Test
+    void testGetContentPageByCode() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var contentCodes = new ArrayList<String>();
+        for (int i = 0; i < 5; i++) {
+            var contentCode = "content-" + i;
+            contentCodes.add(contentCode);
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(contentCode)
+                            .content(contentCode)
+                            .attributes(Map.of())
+                            .build()
+            );
+        }
+
+        var foundCodes = new ArrayList<String>();
+        String afterCode = null;
+        do {
+            var rs = contentServiceEmbedded.getContentPage(
+                    GetContentPageRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .contentType(String.class)
+                            .afterCode(afterCode)
+                            .limit(2)
+                            .build()
+            );
+            assertTrue(rs.contents().size() <= 2);
+            for (var contentHolder : rs.contents()) {
+                assertEquals(contentHolder.getCode(), contentHolder.getContent());
+                foundCodes.add(contentHolder.getCode());
+            }
+            afterCode = rs.nextCode();
+        } while (afterCode != null);
+
+        assertEquals(contentCodes, foundCodes);
+    }
+
+    @Test
+    void testGetContentPageByOffset() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        for (int i = 0; i < 5; i++) {
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code("content-" + i)
+                            .content("content-" + i)
+                            .attributes(Map.of())
+                            .build()
+            );
+        }
+
+        var rs = contentServiceEmbedded.getContentPage(
+                GetContentPageRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .contentType(String.class)
+                        .offset(3)
+                        .limit(10)
+                        .build()
+        );
+
+        assertEquals(
+                List.of("content-3", "content-4"),
+                rs.contents().stream().map(ContentHolder::getCode).toList()
+        );
+        assertNull(rs.nextCode());
+    }
+
+    @Test
+    void testGetContentPageWhenLimitIsNotPositive() {
+        var rq = GetContentPageRq.<String>builder()
+                .systemCode(UUID.randomUUID().toString())
+                .type(UUID.randomUUID().toString())
+                .groupCode(UUID.randomUUID().toString())
+                .contentType(String.class)
+                .build();
+
+        var exception = assertThrows(
+                InvalidRequestException.class,
+                () -> contentServiceEmbedded.getContentPage(rq)
+        );
+        assertEquals("Limit should be positive", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {GetContentPageRq.MAX_LIMIT + 1, Integer.MAX_VALUE})
+    void testGetContentPageWhenLimitIsTooBig(int limit) {
+        var rq = GetContentPageRq.<String>builder()
+                .systemCode(UUID.randomUUID().toString())
+                .type(UUID.randomUUID().toString())
+                .groupCode(UUID.randomUUID().toString())
+                .contentType(String.class)
+                .limit(limit)
+                .build();
+
+        var exception = assertThrows(
+                InvalidRequestException.class,
+                () -> contentServiceEmbedded.getContentPage(rq)
+        );
+        assertEquals("Limit should not exceed " + GetContentPageRq.MAX_LIMIT, exception.getMessage());
+    }
+
+    @Test
+    void testGetContentMetadataWithConditions() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var attributeKey = UUID.randomUUID().toString();
+        var contentCode = UUID.randomUUID().toString();
+        var attributes = Map.of(attributeKey, "visible");
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content(contentCode)
+                        .attributes(attributes)
+                        .build()
+        );
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(UUID.randomUUID().toString())
+                        .content(UUID.randomUUID().toString())
+                        .attributes(Map.of(attributeKey, "hidden"))
+                        .build()
+        );
+
+        var rs = contentServiceEmbedded.getContentMetadata(
+                GetContentMetadataRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .conditions(List.of(
+                                new EqualsCondition(attributeKey, "visible")
+                        ))
+                        .build()
+        );
+
+        var contents = rs.contents();
+        assertEquals(1, contents.size());
+
+        var metadata = contents.get(contentCode);
+        assertNotNull(metadata);
+        assertEquals(contentCode, metadata.code());
+        assertEquals(attributes, metadata.attributes());
+        assertNotNull(metadata.modifiedAt());
+    }
+
+    @Test
+    void testCountContentWithConditions() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var attributeKey = UUID.randomUUID().toString();
+        for (int i = 0; i < 5; i++) {
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(UUID.randomUUID().toString())
+                            .content(UUID.randomUUID().toString())
+                            .attributes(Map.of(attributeKey, i < 3 ? "visible" : "hidden"))
+                            .build()
+            );
+        }
+
+        var all = contentServiceEmbedded.countContent(
+                CountContentRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .build()
+        );
+        assertEquals(5, all);
+
+        var visible = contentServiceEmbedded.countContent(
+                CountContentRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .conditions(List.of(
+                                new EqualsCondition(attributeKey, "visible")
+                        ))
+                        .build()
+        );
+        assertEquals(3, visible);
+    }
+
+    @Test
+    void testGetContentByCodes() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var contentCodes = new ArrayList<String>();
+        for (int i = 0; i < 5; i++) {
+            var contentCode = UUID.randomUUID().toString();
+            contentCodes.add(contentCode);
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(contentCode)
+                            .content(contentCode)
+                            .attributes(Map.of("index", String.valueOf(i)))
+                            .build()
+            );
+        }
+
+        var contentHolder = contentServiceEmbedded.getContentByCode(
+                GetContentByCodeRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCodes.get(2))
+                        .contentType(String.class)
+                        .build()
+        );
+        assertEquals(contentCodes.get(2), contentHolder.getCode());
+        assertEquals(contentCodes.get(2), contentHolder.getContent());
+        assertEquals(Map.of("index", "2"), contentHolder.getAttributes());
+
+        var foundContent = contentServiceEmbedded.getContentByCodes(
+                GetContentByCodesRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .codes(List.of(contentCodes.get(0), contentCodes.get(4), UUID.randomUUID().toString()))
+                        .contentType(String.class)
+                        .build()
+        ).getBody();
+        assertEquals(2, foundContent.size());
+        assertEquals(Map.of("index", "0"), foundContent.get(contentCodes.get(0)).getAttributes());
+        assertEquals(Map.of("index", "4"), foundContent.get(contentCodes.get(4)).getAttributes());
+    }
+
+    @Test
+    void testGetContentByCodeWhenNotFound() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var rq = GetContentByCodeRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .code(UUID.randomUUID().toString())
+                .contentType(String.class)
+                .build();
+
+        var notFoundException = assertThrows(
+                NotFoundException.class,
+                () -> contentServiceEmbedded.getContentByCode(rq)
+        );
+        assertEquals("Content not found", notFoundException.getMessage());
+    }
+
+    @Test
+    void testGetContentByCodesWhenGroupNotFound() {
+        var systemCode = UUID.randomUUID().toString();
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        var code = UUID.randomUUID().toString();
+
+        var byCodeRq = GetContentByCodeRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .code(code)
+                .contentType(String.class)
+                .build();
+        var byCodeException = assertThrows(
+                NotFoundException.class,
+                () -> contentServiceEmbedded.getContentByCode(byCodeRq)
+        );
+        assertEquals("Content group not found", byCodeException.getMessage());
+
+        var byCodesRq = GetContentByCodesRq.<String>builder()
+                .systemCode(systemCode)
+                .type(groupType)
+                .groupCode(groupCode)
+                .codes(List.of(code))
+                .contentType(String.class)
+                .build();
+        var byCodesException = assertThrows(
+                NotFoundException.class,
+                () -> contentServiceEmbedded.getContentByCodes(byCodesRq)
+        );
+        assertEquals("Content group not found", byCodesException.getMessage());
+    }
+
+    @Test
+    void testGetContentLazy() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var contentCodes = new ArrayList<String>();
+        for (int i = 0; i < 3; i++) {
+            var contentCode = UUID.randomUUID().toString();
+            contentCodes.add(contentCode);
+            mutableContentService.createContent(
+                    CreateContentRq.<String>builder()
+                            .systemCode(systemCode)
+                            .type(groupType)
+                            .groupCode(groupCode)
+                            .code(contentCode)
+                            .content(contentCode)
+                            .attributes(Map.of("index", String.valueOf(i)))
+                            .build()
+            );
+        }
+
+        var contents = contentServiceEmbedded.getContentLazy(
+                GetContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .contentType(String.class)
+                        .build()
+        ).contents();
+        assertEquals(3, contents.size());
+        assertTrue(contents.values().stream().noneMatch(LazyContentHolder::isDecoded));
+
+        var lazyContent = contents.get(contentCodes.get(1));
+        assertEquals(Map.of("index", "1"), lazyContent.getAttributes());
+        assertFalse(lazyContent.isDecoded());
+
+        assertEquals(contentCodes.get(1), lazyContent.getContent());
+        assertTrue(lazyContent.isDecoded());
+        assertSame(lazyContent.getContent(), lazyContent.getContent());
+        assertFalse(contents.get(contentCodes.get(0)).isDecoded());
+
+        var contentHolder = lazyContent.toContentHolder();
+        assertEquals(contentCodes.get(1), contentHolder.getCode());
+        assertEquals(contentCodes.get(1), contentHolder.getContent());
+    }
 }
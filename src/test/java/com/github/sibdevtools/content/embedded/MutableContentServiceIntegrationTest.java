@@ -1,22 +1,44 @@
 package com.github.sibdevtools.content.embedded;
 
+import com.github.sibdevtools.content.embedded.cache.AttributeCodeDictionary;
+import com.github.sibdevtools.content.embedded.dto.MutationResult;
+import com.github.sibdevtools.content.embedded.dto.MutationStatus;
 import com.github.sibdevtools.content.embedded.entity.AttributeEntity;
 import com.github.sibdevtools.content.embedded.entity.ContentEntity;
 import com.github.sibdevtools.content.embedded.exception.NotFoundException;
 import com.github.sibdevtools.content.embedded.repository.AttributeRepository;
 import com.github.sibdevtools.content.embedded.repository.ContentGroupRepository;
 import com.github.sibdevtools.content.embedded.repository.ContentRepository;
+import com.github.sibdevtools.content.embedded.repository.InsertIfNotExistsRepository;
 import com.github.sibdevtools.content.embedded.repository.SystemRepository;
+import com.github.sibdevtools.content.embedded.rq.ImportContentRq;
+import com.github.sibdevtools.content.embedded.rq.MutateContentRq;
+import com.github.sibdevtools.content.embedded.rs.ImportContentRs;
+import com.github.sibdevtools.content.embedded.service.MutableContentServiceEmbedded;
 import com.github.sibdevtools.content.mutable.api.rq.*;
 import com.github.sibdevtools.content.mutable.api.service.MutableContentService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +52,8 @@ class MutableContentServiceIntegrationTest {
     @Autowired
     private MutableContentService mutableContentService;
     @Autowired
+    private MutableContentServiceEmbedded mutableContentServiceEmbedded;
+    @Autowired
     private SystemRepository systemRepository;
     @Autowired
     private ContentGroupRepository contentGroupRepository;
@@ -37,6 +61,14 @@ class MutableContentServiceIntegrationTest {
     private ContentRepository contentRepository;
     @Autowired
     private AttributeRepository attributeRepository;
+    @Autowired
+    private AttributeCodeDictionary attributeCodeDictionary;
+    @Autowired
+    private InsertIfNotExistsRepository insertIfNotExistsRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
 
     @Test
     void testCreateSystemThenDelete() {
@@ -61,6 +93,82 @@ class MutableContentServiceIntegrationTest {
         assertTrue(systemEntity.isEmpty());
     }
 
+    @Test
+    void testInsertSystemConcurrently() throws Exception {
+        var systemCode = UUID.randomUUID().toString();
+        var otherSystemCode = UUID.randomUUID().toString();
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var inserted = new CountDownLatch(1);
+        var commit = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var first = executor.submit(() -> transactionTemplate.execute(status -> {
+                var count = insertIfNotExistsRepository.insertSystem(systemCode);
+                inserted.countDown();
+                try {
+                    assertTrue(commit.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return count;
+            }));
+            assertTrue(inserted.await(10, TimeUnit.SECONDS));
+
+            // the second transaction collides with not committed row of the first one and waits for its commit
+            var second = executor.submit(() -> transactionTemplate.execute(status -> {
+                var count = insertIfNotExistsRepository.insertSystem(systemCode);
+                insertIfNotExistsRepository.insertSystem(otherSystemCode);
+                return count;
+            }));
+            awaitBlockedSession();
+            commit.countDown();
+
+            assertEquals(1, first.get(10, TimeUnit.SECONDS));
+            assertEquals(0, second.get(10, TimeUnit.SECONDS));
+        }
+
+        assertTrue(systemRepository.findByCode(systemCode).isPresent());
+        // the second transaction is not rolled back by the collision
+        assertTrue(systemRepository.findByCode(otherSystemCode).isPresent());
+    }
+
+    @Test
+    void testCreateSystemsAllocatesIdsFromPool() {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        var nextValueSql = "SELECT NEXT VALUE FOR content_service.system_seq";
+        var before = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+
+        var systemIds = new ArrayList<Long>();
+        for (int i = 0; i < 10; i++) {
+            var systemCode = UUID.randomUUID().toString();
+            mutableContentService.createSystem(CreateSystemRq.builder()
+                    .systemCode(systemCode)
+                    .build());
+            systemIds.add(systemRepository.findByCode(systemCode).orElseThrow().getId());
+        }
+
+        var after = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+        // 10 systems fit into a single pool, so at most one pool is fetched besides the check itself
+        assertTrue(after - before <= 100, "Sequence advanced by " + (after - before));
+        assertEquals(10, systemIds.stream().distinct().count());
+    }
+
+    /**
+     * Wait until some session is blocked by a lock of other session
+     */
+    private void awaitBlockedSession() {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE BLOCKER_ID IS NOT NULL",
+                Integer.class
+        ) == 0) {
+            assertTrue(System.nanoTime() < deadline, "No blocked session");
+            Thread.onSpinWait();
+        }
+    }
+
     @Test
     void testCreateContentGroupThenDelete() {
         var systemCode = UUID.randomUUID().toString();
@@ -100,6 +208,52 @@ class MutableContentServiceIntegrationTest {
         assertTrue(groupEntities.isEmpty());
     }
 
+    @Test
+    void testDeleteSystemWithContents() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var contentCode = UUID.randomUUID().toString();
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content(UUID.randomUUID().toString())
+                        .attributes(Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()))
+                        .build()
+        );
+        var contentId = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                        systemCode, groupType, groupCode, contentCode
+                )
+                .map(ContentEntity::getId)
+                .orElseThrow();
+
+        mutableContentService.deleteSystem(
+                DeleteSystemRq.builder()
+                        .systemCode(systemCode)
+                        .build()
+        );
+
+        assertTrue(systemRepository.findByCode(systemCode).isEmpty());
+        assertTrue(contentGroupRepository.findBySystem_CodeAndTypeAndCode(systemCode, groupType, groupCode).isEmpty());
+        assertTrue(contentRepository.findById(contentId).isEmpty());
+        assertTrue(attributeRepository.findAllByContentId(contentId).isEmpty());
+    }
+
     @Test
     void testCreateContentGroupWhenSystemDoesNotExist() {
         var rq = CreateContentGroupRq.builder()
@@ -374,6 +528,230 @@ class MutableContentServiceIntegrationTest {
         assertEquals(notChangedValue, attributesMap.get(notChangedKey));
     }
 
+    @Test
+    void testUpdateContentAttributesConcurrently() throws Exception {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var contentCode = UUID.randomUUID().toString();
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content(contentCode)
+                        .attributes(Map.of())
+                        .build()
+        );
+
+        var iterations = 20;
+        var attributeKeys = IntStream.range(0, iterations)
+                .mapToObj(it -> UUID.randomUUID().toString())
+                .toList();
+        var barrier = new CyclicBarrier(2);
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < 2; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (var attributeKey : attributeKeys) {
+                        barrier.await(10, TimeUnit.SECONDS);
+                        mutableContentService.updateContentAttributes(
+                                UpdateContentAttributesRq.builder()
+                                        .systemCode(systemCode)
+                                        .type(groupType)
+                                        .groupCode(groupCode)
+                                        .code(contentCode)
+                                        .attributes(Map.of(attributeKey, attributeKey))
+                                        .build()
+                        );
+                    }
+                    return null;
+                }));
+            }
+            for (var future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+
+        var contentId = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                        systemCode, groupType, groupCode, contentCode
+                )
+                .map(ContentEntity::getId)
+                .orElseThrow();
+        var lastKey = attributeKeys.getLast();
+        var attributesMap = attributeRepository.findAllByContentId(contentId)
+                .stream()
+                .collect(Collectors.toMap(AttributeEntity::getCode, AttributeEntity::getValue));
+        assertEquals(Map.of(lastKey, lastKey), attributesMap);
+    }
+
+    @Test
+    void testRegisterAttributeCodesConcurrently() throws Exception {
+        var attributeCodes = IntStream.range(0, 16)
+                .mapToObj(it -> UUID.randomUUID().toString())
+                .toList();
+
+        var barrier = new CyclicBarrier(2);
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < 2; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (var attributeCode : attributeCodes) {
+                        barrier.await(10, TimeUnit.SECONDS);
+                        attributeCodeDictionary.register(List.of(attributeCode));
+                    }
+                    return null;
+                }));
+            }
+            for (var future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+
+        for (var attributeCode : attributeCodes) {
+            var attributeCodeId = attributeCodeDictionary.getId(attributeCode);
+            assertNotEquals(AttributeCodeDictionary.UNKNOWN_ID, attributeCodeId);
+            assertEquals(attributeCode, attributeCodeDictionary.getCode(attributeCodeId));
+        }
+    }
+
+    @Test
+    void testGetAttributeCodeIdWhenRegisteredAfterMiss() {
+        var attributeCode = UUID.randomUUID().toString();
+        assertEquals(AttributeCodeDictionary.UNKNOWN_ID, attributeCodeDictionary.getId(attributeCode));
+
+        // registered by other instance
+        new JdbcTemplate(dataSource).update(
+                "INSERT INTO content_service.attribute_code (code) VALUES (?)",
+                attributeCode
+        );
+
+        var attributeCodeId = attributeCodeDictionary.getId(attributeCode);
+        assertNotEquals(AttributeCodeDictionary.UNKNOWN_ID, attributeCodeId);
+        assertEquals(attributeCode, attributeCodeDictionary.getCode(attributeCodeId));
+    }
+
+    @Test
+    void testCreateContentRegistersAttributeCodes() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var attributeCode = UUID.randomUUID().toString();
+        assertEquals(AttributeCodeDictionary.UNKNOWN_ID, attributeCodeDictionary.getId(attributeCode));
+
+        var contentCode = UUID.randomUUID().toString();
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content(UUID.randomUUID().toString())
+                        .attributes(Map.of(attributeCode, UUID.randomUUID().toString()))
+                        .build()
+        );
+
+        var attributeCodeId = attributeCodeDictionary.getId(attributeCode);
+        assertNotEquals(AttributeCodeDictionary.UNKNOWN_ID, attributeCodeId);
+        assertEquals(attributeCode, attributeCodeDictionary.getCode(attributeCodeId));
+
+        var contentId = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                        systemCode, groupType, groupCode, contentCode
+                )
+                .map(ContentEntity::getId)
+                .orElseThrow();
+        var attributeEntities = attributeRepository.findAllByContentId(contentId);
+        assertEquals(1, attributeEntities.size());
+        assertEquals(attributeCode, attributeEntities.getFirst().getCode());
+    }
+
+    @Test
+    void testUpdateContentAttributesWhenAttributesNotChanged() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var contentCode = UUID.randomUUID().toString();
+        var attributes = Map.of(
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString()
+        );
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content(UUID.randomUUID().toString())
+                        .attributes(attributes)
+                        .build()
+        );
+
+        var oldContentEntity = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                        systemCode, groupType, groupCode, contentCode
+                )
+                .orElse(null);
+        assertNotNull(oldContentEntity);
+        var oldAttributeEntities = attributeRepository.findAllByContentId(oldContentEntity.getId());
+
+        mutableContentService.updateContentAttributes(
+                UpdateContentAttributesRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .attributes(attributes)
+                        .build()
+        );
+
+        var newContentEntity = contentRepository.findById(oldContentEntity.getId())
+                .orElse(null);
+        assertNotNull(newContentEntity);
+        assertEquals(oldContentEntity.getModifiedAt(), newContentEntity.getModifiedAt());
+
+        var newAttributeEntities = attributeRepository.findAllByContentId(oldContentEntity.getId());
+        assertEquals(
+                oldAttributeEntities.stream().map(AttributeEntity::getId).toList(),
+                newAttributeEntities.stream().map(AttributeEntity::getId).toList()
+        );
+    }
+
     @Test
     void testCreateContentThenUpdateContentAttributesWhenContentDoesNotExist() {
         var systemCode = UUID.randomUUID().toString();
@@ -403,4 +781,181 @@ class MutableContentServiceIntegrationTest {
         assertEquals("Content not found", notFoundException.getMessage());
     }
 
+    @Test
+    void testImportContentThenUpsert() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var attributeKey = UUID.randomUUID().toString();
+        var codes = IntStream.range(0, 64)
+                .mapToObj(it -> UUID.randomUUID().toString())
+                .toList();
+
+        var progress = new ArrayList<ImportContentRs>();
+        var importRs = mutableContentServiceEmbedded.importContent(
+                ImportContentRq.builder()
+                        .contents(codes.stream()
+                                .map(it -> CreateContentRq.<String>builder()
+                                        .systemCode(systemCode)
+                                        .type(groupType)
+                                        .groupCode(groupCode)
+                                        .code(it)
+                                        .content(it)
+                                        .attributes(Map.of(attributeKey, it))
+                                        .build()))
+                        .progressListener(progress::add)
+                        .build()
+        );
+        assertEquals(new ImportContentRs(64, 64, 0, 0), importRs);
+        assertEquals(importRs, progress.getLast());
+
+        var contentGroup = contentGroupRepository.findBySystem_CodeAndTypeAndCode(systemCode, groupType, groupCode)
+                .orElseThrow();
+        var contentEntities = contentRepository.findAllByGroup(contentGroup);
+        assertEquals(64, contentEntities.size());
+
+        var changedCode = codes.getFirst();
+        var changedValue = UUID.randomUUID().toString();
+        var upsertRs = mutableContentServiceEmbedded.importContent(
+                ImportContentRq.builder()
+                        .contents(codes.stream()
+                                .map(it -> CreateContentRq.<String>builder()
+                                        .systemCode(systemCode)
+                                        .type(groupType)
+                                        .groupCode(groupCode)
+                                        .code(it)
+                                        .content(it)
+                                        .attributes(Map.of(attributeKey, it.equals(changedCode) ? changedValue : it))
+                                        .build()))
+                        .upsert(true)
+                        .build()
+        );
+        assertEquals(new ImportContentRs(64, 0, 1, 63), upsertRs);
+
+        var changedContentId = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                        systemCode, groupType, groupCode, changedCode
+                )
+                .map(ContentEntity::getId)
+                .orElseThrow();
+        var attributeEntities = attributeRepository.findAllByContentId(changedContentId);
+        assertEquals(1, attributeEntities.size());
+        assertEquals(changedValue, attributeEntities.getFirst().getValue());
+    }
+
+    @Test
+    void testImportContentWhenContentGroupDoesNotExist() {
+        var rq = ImportContentRq.builder()
+                .contents(Stream.of(CreateContentRq.<String>builder()
+                        .systemCode(UUID.randomUUID().toString())
+                        .type(UUID.randomUUID().toString())
+                        .groupCode(UUID.randomUUID().toString())
+                        .code(UUID.randomUUID().toString())
+                        .content(UUID.randomUUID().toString())
+                        .attributes(Map.of())
+                        .build()))
+                .build();
+
+        var notFoundException = assertThrows(
+                NotFoundException.class,
+                () -> mutableContentServiceEmbedded.importContent(rq)
+        );
+        assertEquals("Content group not found", notFoundException.getMessage());
+    }
+
+    @Test
+    void testMutate() {
+        var systemCode = UUID.randomUUID().toString();
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        var contentCode = UUID.randomUUID().toString();
+        var attributeKey = UUID.randomUUID().toString();
+        var attributeValue = UUID.randomUUID().toString();
+
+        var rs = mutableContentServiceEmbedded.mutate(
+                MutateContentRq.builder()
+                        .operations(List.of(
+                                CreateSystemRq.builder()
+                                        .systemCode(systemCode)
+                                        .build(),
+                                CreateContentGroupRq.builder()
+                                        .systemCode(systemCode)
+                                        .type(groupType)
+                                        .code(groupCode)
+                                        .build(),
+                                CreateContentRq.<String>builder()
+                                        .systemCode(systemCode)
+                                        .type(groupType)
+                                        .groupCode(groupCode)
+                                        .code(contentCode)
+                                        .content(UUID.randomUUID().toString())
+                                        .attributes(Map.of())
+                                        .build(),
+                                UpdateContentAttributesRq.builder()
+                                        .systemCode(systemCode)
+                                        .type(groupType)
+                                        .groupCode(groupCode)
+                                        .code(contentCode)
+                                        .attributes(Map.of(attributeKey, attributeValue))
+                                        .build()
+                        ))
+                        .build()
+        );
+
+        assertTrue(rs.results().stream().allMatch(it -> it.status() == MutationStatus.APPLIED));
+
+        var contentId = contentRepository.findByGroup_System_CodeAndGroup_TypeAndGroup_CodeAndCode(
+                        systemCode, groupType, groupCode, contentCode
+                )
+                .map(ContentEntity::getId)
+                .orElseThrow();
+        var attributeEntities = attributeRepository.findAllByContentId(contentId);
+        assertEquals(1, attributeEntities.size());
+        assertEquals(attributeValue, attributeEntities.getFirst().getValue());
+    }
+
+    @Test
+    void testMutateWhenOperationFailed() {
+        var systemCode = UUID.randomUUID().toString();
+
+        var rs = mutableContentServiceEmbedded.mutate(
+                MutateContentRq.builder()
+                        .operations(List.of(
+                                CreateSystemRq.builder()
+                                        .systemCode(systemCode)
+                                        .build(),
+                                UpdateContentRq.builder()
+                                        .systemCode(systemCode)
+                                        .type(UUID.randomUUID().toString())
+                                        .groupCode(UUID.randomUUID().toString())
+                                        .code(UUID.randomUUID().toString())
+                                        .content(UUID.randomUUID().toString())
+                                        .build(),
+                                CreateSystemRq.builder()
+                                        .systemCode(UUID.randomUUID().toString())
+                                        .build()
+                        ))
+                        .build()
+        );
+
+        var statuses = rs.results()
+                .stream()
+                .map(MutationResult::status)
+                .toList();
+        assertEquals(List.of(MutationStatus.ROLLED_BACK, MutationStatus.FAILED, MutationStatus.SKIPPED), statuses);
+        assertEquals("Content not found", rs.results().get(1).error());
+        assertTrue(systemRepository.findByCode(systemCode).isEmpty());
+    }
+
 }
@@ -0,0 +1,182 @@
+package com.github.sibdevtools.content.embedded;
+
+import com.github.sibdevtools.content.api.condition.EqualsCondition;
+import com.github.sibdevtools.content.api.condition.NotEqualsCondition;
+import com.github.sibdevtools.content.api.condition.NotNullCondition;
+import com.github.sibdevtools.content.api.rq.GetContentRq;
+import com.github.sibdevtools.content.api.service.ContentService;
+import com.github.sibdevtools.content.mutable.api.rq.CreateContentGroupRq;
+import com.github.sibdevtools.content.mutable.api.rq.CreateContentRq;
+import com.github.sibdevtools.content.mutable.api.rq.CreateSystemRq;
+import com.github.sibdevtools.content.mutable.api.rq.DeleteContentRq;
+import com.github.sibdevtools.content.mutable.api.service.MutableContentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+@ActiveProfiles("startup-test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.github.sibdevtools.content.embedded.RecordingStatementInspector")
+class QueryPlanIntegrationTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MutableContentService mutableContentService;
+    @Autowired
+    private ContentService contentService;
+
+    @Test
+    void testFindAttributesByContentIdUsesIndex() {
+        var plan = explain("SELECT * FROM content_service.content_attribute WHERE content_id = 1");
+
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void testDeleteAttributesByContentIdUsesIndex() {
+        var plan = explain("DELETE FROM content_service.content_attribute WHERE content_id = 1");
+
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void testFindAttributeByContentIdAndCodeUsesUniqueIndex() {
+        var plan = explain("SELECT * FROM content_service.content_attribute WHERE content_id = 1 AND code_id = 1");
+
+        assertTrue(plan.contains("CONTENT_ATTRIBUTE_CONTENT_CODE_IDX"), plan);
+    }
+
+    @Test
+    void testFindContentIdsByAttributeUsesCoveringIndex() {
+        var plan = explain("SELECT content_id FROM content_service.content_attribute " +
+                "WHERE code_id = 1 AND attr_value = 'value'");
+
+        assertTrue(plan.contains("CONTENT_ATTRIBUTE_CODE_VALUE_IDX"), plan);
+    }
+
+    @Test
+    void testGetContentWithConditionsGeneratedQueriesUseIndexes() {
+        var group = createGroupWithContent();
+
+        RecordingStatementInspector.clear();
+        var rq = GetContentRq.<String>builder()
+                .systemCode(group.systemCode())
+                .type(group.type())
+                .groupCode(group.groupCode())
+                .contentType(String.class)
+                .conditions(List.of(
+                        new EqualsCondition("lang", "eng"),
+                        new NotNullCondition("region"),
+                        new NotEqualsCondition("hidden", "true")
+                ))
+                .build();
+        var contents = contentService.getContent(rq).getBody();
+        assertEquals(1, contents.size());
+
+        var contentsQuery = findStatement("from content_service.content ", "exists");
+        var contentsPlan = explain(contentsQuery);
+        assertFalse(contentsPlan.contains("tableScan"), contentsPlan);
+
+        var attributesQuery = findStatement("from content_service.content_attribute ", " in (");
+        var attributesPlan = explain(attributesQuery);
+        assertFalse(attributesPlan.contains("tableScan"), attributesPlan);
+    }
+
+    @Test
+    void testDeleteContentGeneratedQueriesUseIndexes() {
+        var group = createGroupWithContent();
+
+        RecordingStatementInspector.clear();
+        mutableContentService.deleteContent(
+                DeleteContentRq.builder()
+                        .systemCode(group.systemCode())
+                        .type(group.type())
+                        .groupCode(group.groupCode())
+                        .code(group.contentCode())
+                        .build()
+        );
+
+        var deleteQuery = findStatement("delete from content_service.content_attribute ", "content_id");
+        var deletePlan = explain(deleteQuery);
+        assertFalse(deletePlan.contains("tableScan"), deletePlan);
+    }
+
+    private Group createGroupWithContent() {
+        var systemCode = UUID.randomUUID().toString();
+        mutableContentService.createSystem(CreateSystemRq.builder()
+                .systemCode(systemCode)
+                .build());
+
+        var groupType = UUID.randomUUID().toString();
+        var groupCode = UUID.randomUUID().toString();
+        mutableContentService.createContentGroup(
+                CreateContentGroupRq.builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .code(groupCode)
+                        .build()
+        );
+
+        var contentCode = UUID.randomUUID().toString();
+        mutableContentService.createContent(
+                CreateContentRq.<String>builder()
+                        .systemCode(systemCode)
+                        .type(groupType)
+                        .groupCode(groupCode)
+                        .code(contentCode)
+                        .content(contentCode)
+                        .attributes(Map.of("lang", "eng", "region", "eu"))
+                        .build()
+        );
+        return new Group(systemCode, groupType, groupCode, contentCode);
+    }
+
+    private static String findStatement(String... fragments) {
+        var statements = RecordingStatementInspector.getStatements();
+        return statements.stream()
+                .filter(it -> {
+                    var sql = it.toLowerCase(Locale.ROOT);
+                    for (var fragment : fragments) {
+                        if (!sql.contains(fragment)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                })
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Statement not found in " + statements));
+    }
+
+    /**
+     * Explain query, all query parameters are bound to NULL as they do not affect the plan
+     */
+    private String explain(String query) {
+        return jdbcTemplate.execute("EXPLAIN " + query, (PreparedStatementCallback<String>) ps -> {
+            var parameters = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                ps.setObject(i, null);
+            }
+            try (var rs = ps.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getString(1);
+            }
+        });
+    }
+
+    private record Group(String systemCode, String type, String groupCode, String contentCode) {
+    }
+}
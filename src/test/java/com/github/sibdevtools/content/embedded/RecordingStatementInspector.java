@@ -0,0 +1,38 @@
+package com.github.sibdevtools.content.embedded;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Statement inspector, which records SQL generated by Hibernate
+ *
+ * @author sibmaks
+ * @since 0.0.11
+ */
+public class RecordingStatementInspector implements StatementInspector {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Get recorded statements
+     *
+     * @return recorded statements in order of preparation
+     */
+    public static List<String> getStatements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    /**
+     * Clear recorded statements
+     */
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.api.condition.*;
+import com.github.sibdevtools.content.embedded.condition.ConditionPlan;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+class AttributeIndexTest {
+    private static final List<ContentSnapshot> CONTENTS = List.of(
+            content(0, Map.of("lang", "eng")),
+            content(1, Map.of("lang", "rus")),
+            content(2, Map.of("lang", "eng", "draft", "true")),
+            content(3, Map.of())
+    );
+
+    @Test
+    void testFindWithoutConditions() {
+        var index = AttributeIndex.of(CONTENTS);
+
+        assertEquals(positions(0, 1, 2, 3), index.find(ConditionPlan.all()));
+        assertEquals(positions(0, 1, 2, 3), index.find(plan()));
+    }
+
+    @Test
+    void testFindWithEqCondition() {
+        var index = AttributeIndex.of(CONTENTS);
+
+        assertEquals(positions(0, 2), index.find(plan(new EqualsCondition("lang", "eng"))));
+        assertEquals(positions(), index.find(plan(new EqualsCondition("lang", "deu"))));
+        assertEquals(positions(), index.find(plan(new EqualsCondition("unknown", "eng"))));
+    }
+
+    @Test
+    void testFindWithNotEqCondition() {
+        var index = AttributeIndex.of(CONTENTS);
+
+        assertEquals(positions(1, 3), index.find(plan(new NotEqualsCondition("lang", "eng"))));
+    }
+
+    @Test
+    void testFindWithNullConditions() {
+        var index = AttributeIndex.of(CONTENTS);
+
+        assertEquals(positions(0, 1, 3), index.find(plan(new IsNullCondition("draft"))));
+        assertEquals(positions(2), index.find(plan(new NotNullCondition("draft"))));
+    }
+
+    @Test
+    void testFindWithManyConditions() {
+        var index = AttributeIndex.of(CONTENTS);
+
+        var found = index.find(plan(
+                new NotNullCondition("lang"),
+                new NotEqualsCondition("lang", "rus"),
+                new IsNullCondition("draft")
+        ));
+        assertEquals(positions(0), found);
+    }
+
+    private static ConditionPlan plan(Condition... conditions) {
+        return ConditionPlan.compile(List.of(conditions));
+    }
+
+    private static ContentSnapshot content(long id, Map<String, String> attributes) {
+        return new ContentSnapshot(id, "code-" + id, "{}", null, "JSON", attributes, ZonedDateTime.now());
+    }
+
+    private static BitSet positions(int... positions) {
+        var bitSet = new BitSet();
+        for (var position : positions) {
+            bitSet.set(position);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.embedded.conf.ContentServiceEmbeddedCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+class ContentGroupCacheTest {
+
+    @Test
+    void testGetWhenCached() {
+        var cache = new ContentGroupCache(properties(16));
+        var key = ContentGroupKey.of("system", "type", "group");
+        var loads = new AtomicInteger();
+
+        var first = cache.get(key, it -> load(loads));
+        var second = cache.get(key, it -> load(loads));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGetWhenMaxSizeReached() {
+        var maxSize = 4;
+        var cache = new ContentGroupCache(properties(maxSize));
+        var loads = new AtomicInteger();
+
+        for (int i = 0; i < maxSize * 4; i++) {
+            cache.get(ContentGroupKey.of("system", "type", "group-" + i), it -> load(loads));
+        }
+        assertEquals(maxSize * 4, loads.get());
+
+        var cached = 0;
+        for (int i = 0; i < maxSize * 4; i++) {
+            var before = loads.get();
+            cache.get(ContentGroupKey.of("system", "type", "group-" + i), it -> load(loads));
+            if (loads.get() == before) {
+                cached++;
+            }
+        }
+        assertTrue(cached <= maxSize);
+    }
+
+    @Test
+    void testGetWhenMaxSizeNotPositive() {
+        var cache = new ContentGroupCache(properties(0));
+        var key = ContentGroupKey.of("system", "type", "group");
+        var loads = new AtomicInteger();
+
+        cache.get(key, it -> load(loads));
+        cache.get(key, it -> load(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    private static ContentGroupSnapshot load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return ContentGroupSnapshot.of(List.of());
+    }
+
+    private static ContentServiceEmbeddedCacheProperties properties(int groupsMaxSize) {
+        var properties = new ContentServiceEmbeddedCacheProperties();
+        properties.setEnabled(true);
+        properties.setGroupsMaxSize(groupsMaxSize);
+        return properties;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.sibdevtools.content.embedded.cache;
+
+import com.github.sibdevtools.content.embedded.conf.ContentServiceEmbeddedCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+class DecodedContentCacheTest {
+
+    @Test
+    void testGetWhenImmutableType() {
+        var cache = new DecodedContentCache(properties(16));
+        var content = new ContentSnapshot(1, "code", "\"value\"", null, "JSON", Map.of(), ZonedDateTime.now());
+        var decodes = new AtomicInteger();
+
+        var first = cache.get(content, String.class, () -> "value-" + decodes.incrementAndGet());
+        var second = cache.get(content, String.class, () -> "value-" + decodes.incrementAndGet());
+
+        assertEquals("value-1", first);
+        assertSame(first, second);
+        assertEquals(1, decodes.get());
+    }
+
+    @Test
+    void testGetWhenContentModified() {
+        var cache = new DecodedContentCache(properties(16));
+        var modifiedAt = ZonedDateTime.now();
+        var content = new ContentSnapshot(1, "code", "\"old\"", null, "JSON", Map.of(), modifiedAt);
+        var modified = new ContentSnapshot(1, "code", "\"new\"", null, "JSON", Map.of(), modifiedAt.plusSeconds(1));
+
+        assertEquals("old", cache.get(content, String.class, () -> "old"));
+        assertEquals("new", cache.get(modified, String.class, () -> "new"));
+    }
+
+    @Test
+    void testGetWhenMutableType() {
+        var cache = new DecodedContentCache(properties(16));
+        var content = new ContentSnapshot(1, "code", "{}", null, "JSON", Map.of(), ZonedDateTime.now());
+
+        var first = cache.get(content, HashMap.class, HashMap::new);
+        var second = cache.get(content, HashMap.class, HashMap::new);
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testGetWhenMarkedType() {
+        var cache = new DecodedContentCache(properties(16));
+        var content = new ContentSnapshot(1, "code", "{}", null, "JSON", Map.of(), ZonedDateTime.now());
+
+        var first = cache.get(content, Marked.class, () -> new Marked(UUID.randomUUID().toString()));
+        var second = cache.get(content, Marked.class, () -> new Marked(UUID.randomUUID().toString()));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void testGetWhenDisabled() {
+        var cache = new DecodedContentCache(properties(0));
+        var content = new ContentSnapshot(1, "code", "\"value\"", null, "JSON", Map.of(), ZonedDateTime.now());
+        var decodes = new AtomicInteger();
+
+        cache.get(content, String.class, () -> "value-" + decodes.incrementAndGet());
+        cache.get(content, String.class, () -> "value-" + decodes.incrementAndGet());
+
+        assertEquals(2, decodes.get());
+    }
+
+    private static ContentServiceEmbeddedCacheProperties properties(int decodedMaxSize) {
+        var properties = new ContentServiceEmbeddedCacheProperties();
+        properties.setDecodedMaxSize(decodedMaxSize);
+        return properties;
+    }
+
+    @ImmutableContent
+    record Marked(String value) {
+    }
+}
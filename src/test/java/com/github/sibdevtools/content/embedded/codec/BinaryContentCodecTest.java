@@ -0,0 +1,58 @@
+package com.github.sibdevtools.content.embedded.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.sibdevtools.content.embedded.exception.SerializationException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+class BinaryContentCodecTest {
+
+    static Stream<Arguments> mappers() {
+        return Stream.of(
+                Arguments.of(BinaryContentCodec.SMILE, new SmileMapper()),
+                Arguments.of(BinaryContentCodec.CBOR, new CBORMapper())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappers")
+    void testEncodeThenDecode(String id, ObjectMapper objectMapper) {
+        var codec = new BinaryContentCodec(id, objectMapper);
+        var content = Map.of(UUID.randomUUID().toString(), 42);
+
+        var encoded = codec.encode(content);
+        var decoded = codec.decode(encoded, Map.class);
+
+        assertEquals(id, codec.getId());
+        assertEquals(content, decoded);
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappers")
+    void testDecodeNull(String id, ObjectMapper objectMapper) {
+        var codec = new BinaryContentCodec(id, objectMapper);
+
+        assertNull(codec.decode(null, Object.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappers")
+    void testDecodeInvalid(String id, ObjectMapper objectMapper) {
+        var codec = new BinaryContentCodec(id, objectMapper);
+
+        assertThrows(SerializationException.class, () -> codec.decode("not base64!", Object.class));
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.sibdevtools.content.embedded.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+class CompressingContentCodecTest {
+    private final JsonContentCodec delegate = new JsonContentCodec(new ObjectMapper());
+    private final CompressingContentCodec codec = new CompressingContentCodec(delegate, 64);
+
+    @Test
+    void testGetId() {
+        assertEquals("JSON+DEFLATE", codec.getId());
+    }
+
+    @Test
+    void testEncodeSmallContentIsNotCompressed() {
+        var content = "small";
+
+        var encoded = codec.encode(content);
+
+        assertEquals(delegate.encode(content), encoded);
+        assertEquals(content, codec.decode(encoded, String.class));
+    }
+
+    @Test
+    void testEncodeLargeContentIsCompressed() {
+        var content = "large content ".repeat(128);
+
+        var encoded = codec.encode(content);
+
+        assertTrue(encoded.startsWith(CompressingContentCodec.HEADER));
+        assertTrue(encoded.length() < delegate.encode(content).length());
+        assertEquals(content, codec.decode(encoded, String.class));
+    }
+
+    @Test
+    void testDecodeNotCompressedContent() {
+        var content = "stored before compression ".repeat(128);
+
+        var encoded = delegate.encode(content);
+
+        assertEquals(content, codec.decode(encoded, String.class));
+    }
+
+    @Test
+    void testDecodeNull() {
+        assertNull(codec.decode(null, String.class));
+    }
+
+    @Test
+    void testEncodeBytesSmallContentIsNotCompressed() {
+        var content = "small";
+
+        var encoded = codec.encodeBytes(content);
+
+        assertEquals(CompressingContentCodec.RAW, encoded[0]);
+        assertEquals(content, codec.decodeBytes(encoded, String.class));
+    }
+
+    @Test
+    void testEncodeBytesLargeContentIsCompressed() {
+        var content = "large content ".repeat(128);
+
+        var encoded = codec.encodeBytes(content);
+
+        assertEquals(CompressingContentCodec.DEFLATED, encoded[0]);
+        assertTrue(encoded.length < delegate.encodeBytes(content).length);
+        assertEquals(content, codec.decodeBytes(encoded, String.class));
+    }
+}
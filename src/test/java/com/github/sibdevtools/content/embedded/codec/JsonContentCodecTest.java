@@ -2,18 +2,27 @@ package com.github.sibdevtools.content.embedded.codec;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.sibdevtools.content.embedded.exception.SerializationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 /**
  * @author sibmaks
@@ -30,7 +39,10 @@ class JsonContentCodecTest {
     void testEncode() throws JsonProcessingException {
         var content = mock(Object.class);
         var encoded = UUID.randomUUID().toString();
-        when(objectMapper.writeValueAsString(content))
+        var writer = mock(ObjectWriter.class);
+        when(objectMapper.writerFor(content.getClass()))
+                .thenReturn(writer);
+        when(writer.writeValueAsString(content))
                 .thenReturn(encoded);
 
         var actual = codec.encode(content);
@@ -38,21 +50,90 @@ class JsonContentCodecTest {
     }
 
     @Test
-    void testDecode() throws JsonProcessingException {
+    void testDecode() throws IOException {
         var decoded = mock(Object.class);
         var encoded = UUID.randomUUID().toString();
         var type = Object.class;
-        when(objectMapper.readValue(encoded, type))
+        var reader = mock(ObjectReader.class);
+        when(objectMapper.readerFor(type))
+                .thenReturn(reader);
+        when(reader.readValue(encoded))
                 .thenReturn(decoded);
 
         var actual = codec.decode(encoded, type);
         assertEquals(decoded, actual);
     }
 
+    @Test
+    void testDecodeReaderIsReused() throws IOException {
+        var type = Object.class;
+        var reader = mock(ObjectReader.class);
+        when(objectMapper.readerFor(type))
+                .thenReturn(reader);
+
+        codec.decode("{}", type);
+        codec.decode("[]", type);
+
+        verify(objectMapper, times(1)).readerFor(type);
+        verify(reader, times(2)).readValue(anyString());
+    }
+
     @Test
     void testDecodeNull() {
         var actual = codec.decode(null, null);
         assertNull(actual);
     }
 
+    @ParameterizedTest
+    @MethodSource("scalarContents")
+    void testDecodeScalarWithoutParser(String encoded, Class<?> type, Object expected) {
+        var actual = codec.decode(encoded, type);
+        assertEquals(expected, actual);
+
+        if (type == String.class) {
+            var actualFromBytes = codec.decodeBytes(encoded.getBytes(StandardCharsets.UTF_8), type);
+            assertEquals(expected, actualFromBytes);
+        }
+        verify(objectMapper, never()).readerFor(type);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"escaped \\\" value\"", "\"\\u0041\""})
+    void testDecodeEscapedStringWithParser(String encoded) throws JsonProcessingException {
+        var mapper = new ObjectMapper();
+        var jsonCodec = new JsonContentCodec(mapper);
+
+        assertEquals(mapper.readValue(encoded, String.class), jsonCodec.decode(encoded, String.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.0", "\"1\""})
+    void testDecodeNotPlainIntegerWithParser(String encoded) throws JsonProcessingException {
+        var mapper = new ObjectMapper();
+        var jsonCodec = new JsonContentCodec(mapper);
+
+        assertEquals(mapper.readValue(encoded, Integer.class), jsonCodec.decode(encoded, Integer.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"01", "99999999999"})
+    void testDecodeInvalidIntegerWithParser(String encoded) {
+        var jsonCodec = new JsonContentCodec(new ObjectMapper());
+
+        assertThrows(SerializationException.class, () -> jsonCodec.decode(encoded, Integer.class));
+    }
+
+    private static Stream<Arguments> scalarContents() {
+        return Stream.of(
+                Arguments.of("\"plain\"", String.class, "plain"),
+                Arguments.of("\"локализованная строка\"", String.class, "локализованная строка"),
+                Arguments.of("\"\"", String.class, ""),
+                Arguments.of("true", Boolean.class, true),
+                Arguments.of("false", Boolean.class, false),
+                Arguments.of("-42", Integer.class, -42),
+                Arguments.of("0", Integer.class, 0),
+                Arguments.of("9007199254740993", Long.class, 9007199254740993L)
+        );
+    }
+
 }
\ No newline at end of file
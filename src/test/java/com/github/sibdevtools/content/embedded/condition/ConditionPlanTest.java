@@ -0,0 +1,90 @@
+package com.github.sibdevtools.content.embedded.condition;
+
+import com.github.sibdevtools.content.api.condition.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author sibmaks
+ * @since 0.0.11
+ */
+class ConditionPlanTest {
+
+    @Test
+    void testCompileWithoutConditions() {
+        assertTrue(ConditionPlan.compile(null).isAll());
+        assertTrue(ConditionPlan.compile(List.of()).isAll());
+    }
+
+    @Test
+    void testCompileRemovesDuplicatesAndOrdersBySelectivity() {
+        var plan = ConditionPlan.compile(List.of(
+                new NotEqualsCondition("type", "draft"),
+                new IsNullCondition("deleted"),
+                new EqualsCondition("lang", "eng"),
+                new EqualsCondition("lang", "eng"),
+                new NotNullCondition("lang")
+        ));
+
+        assertEquals(
+                List.of(
+                        new AttributeCondition(ConditionOperator.EQUALS, "lang", "eng"),
+                        new AttributeCondition(ConditionOperator.IS_NULL, "deleted", null),
+                        new AttributeCondition(ConditionOperator.NOT_EQUALS, "type", "draft")
+                ),
+                plan.conditions()
+        );
+    }
+
+    @Test
+    void testCompileNormalizesNullValues() {
+        var plan = ConditionPlan.compile(List.of(
+                new EqualsCondition("deleted", null),
+                new NotEqualsCondition("lang", null)
+        ));
+
+        assertEquals(
+                List.of(
+                        new AttributeCondition(ConditionOperator.NOT_NULL, "lang", null),
+                        new AttributeCondition(ConditionOperator.IS_NULL, "deleted", null)
+                ),
+                plan.conditions()
+        );
+    }
+
+    @Test
+    void testCompileWhenConditionsContradict() {
+        assertTrue(ConditionPlan.compile(List.of(
+                new EqualsCondition("lang", "eng"),
+                new EqualsCondition("lang", "rus")
+        )).isUnsatisfiable());
+        assertTrue(ConditionPlan.compile(List.of(
+                new EqualsCondition("lang", "eng"),
+                new NotEqualsCondition("lang", "eng")
+        )).isUnsatisfiable());
+        assertTrue(ConditionPlan.compile(List.of(
+                new IsNullCondition("lang"),
+                new NotNullCondition("lang")
+        )).isUnsatisfiable());
+    }
+
+    @Test
+    void testTest() {
+        var plan = ConditionPlan.compile(List.of(
+                new EqualsCondition("lang", "eng"),
+                new NotEqualsCondition("type", "draft"),
+                new IsNullCondition("deleted")
+        ));
+
+        assertTrue(plan.test(Map.of("lang", "eng")));
+        assertTrue(plan.test(Map.of("lang", "eng", "type", "page")));
+        assertFalse(plan.test(Map.of("lang", "eng", "type", "draft")));
+        assertFalse(plan.test(Map.of("lang", "eng", "deleted", "true")));
+        assertFalse(plan.test(Map.of("lang", "rus")));
+        assertFalse(plan.test(Map.of()));
+    }
+}